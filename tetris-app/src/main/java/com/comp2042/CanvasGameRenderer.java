@@ -0,0 +1,224 @@
+package com.comp2042;
+
+import com.comp2042.util.ColorMapper;
+import com.comp2042.util.GameConstants;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.BitSet;
+
+/**
+ * Renderer that draws the board and falling brick onto one {@link Canvas} and the preview onto another,
+ * instead of keeping a {@link javafx.scene.shape.Rectangle} node per cell. Each brick colour is drawn
+ * once into a cached tile image at startup, so painting a cell is a single {@code drawImage} call.
+ * Only changed cells are redrawn: dirty board rows, and the cells the falling brick and its ghost piece
+ * leave and enter. The ghost is drawn with translucent tiles on the empty cells at the landing position.
+ */
+public class CanvasGameRenderer implements GameRenderer {
+
+    private static final int CELL_GAP = 1;
+    private static final int CELL_PITCH = GameConstants.BRICK_SIZE + CELL_GAP;
+    private static final int COLOR_COUNT = GameConstants.COLOR_BRICK_7 + 1;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+    private final Image[] tiles = new Image[COLOR_COUNT];
+    private final Image[] ghostTiles = new Image[COLOR_COUNT];
+
+    private int displayStartRow;
+    private GraphicsContext boardGraphics;
+    private Canvas previewCanvas;
+    private int[][] displayedColors;
+    private int[][] brickData;
+    private int brickX;
+    private int brickY;
+    private int ghostY;
+    private int[][] previewData;
+
+    /**
+     * Constructor to create a canvas renderer.
+     *
+     * @param gamePanel grid that will hold the board canvas
+     * @param brickPanel grid used by the node renderer for the falling brick; hidden by this renderer
+     * @param nextBrickPanel grid that will hold the preview canvas
+     */
+    public CanvasGameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, int hiddenRows, BrickView brick) {
+        displayStartRow = hiddenRows;
+        for (int colorIndex = GameConstants.COLOR_BRICK_1; colorIndex < COLOR_COUNT; colorIndex++) {
+            tiles[colorIndex] = createTile(ColorMapper.getColor(colorIndex));
+            ghostTiles[colorIndex] = createTile(ColorMapper.getGhostColor(colorIndex));
+        }
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        displayedColors = new int[rows][columns];
+        Canvas boardCanvas = new Canvas(columns * CELL_PITCH - CELL_GAP,
+                (rows - displayStartRow) * CELL_PITCH - CELL_GAP);
+        boardGraphics = boardCanvas.getGraphicsContext2D();
+        gamePanel.add(boardCanvas, 0, 0);
+        brickPanel.setVisible(false);
+        refreshBrick(brick);
+    }
+
+    @Override
+    public void refreshBackground(int[][] board, BitSet dirtyRows) {
+        for (int i = dirtyRows.nextSetBit(displayStartRow); i >= 0 && i < board.length; i = dirtyRows.nextSetBit(i + 1)) {
+            int[] boardRow = board[i];
+            int[] shownRow = displayedColors[i];
+            for (int j = 0; j < boardRow.length; j++) {
+                if (shownRow[j] != boardRow[j]) {
+                    shownRow[j] = boardRow[j];
+                    drawCell(boardGraphics, j, i - displayStartRow, boardRow[j]);
+                }
+            }
+        }
+        // Repainted rows may have covered the ghost and the falling brick
+        drawGhost();
+        drawBrick();
+    }
+
+    @Override
+    public void refreshBrick(BrickView brick) {
+        eraseBrick();
+        eraseGhost();
+        brickData = brick.getBrickData();
+        brickX = brick.getxPosition();
+        brickY = brick.getyPosition();
+        ghostY = brick.getGhostY();
+        drawGhost();
+        drawBrick();
+        refreshPreview(brick.getNextBrickData());
+    }
+
+    private void refreshPreview(int[][] nextBrickData) {
+        if (nextBrickData == null || nextBrickData.length == 0 || nextBrickData == previewData) {
+            return;
+        }
+        if (previewCanvas == null || previewData == null || previewData.length != nextBrickData.length
+                || previewData[0].length != nextBrickData[0].length) {
+            nextBrickPanel.getChildren().clear();
+            previewCanvas = new Canvas(nextBrickData[0].length * CELL_PITCH - CELL_GAP,
+                    nextBrickData.length * CELL_PITCH - CELL_GAP);
+            nextBrickPanel.add(previewCanvas, 0, 0);
+        }
+        previewData = nextBrickData;
+        GraphicsContext graphics = previewCanvas.getGraphicsContext2D();
+        for (int i = 0; i < nextBrickData.length; i++) {
+            for (int j = 0; j < nextBrickData[i].length; j++) {
+                drawCell(graphics, j, i, nextBrickData[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Restores the board cells under the brick's last drawn position.
+     */
+    private void eraseBrick() {
+        if (brickData == null) {
+            return;
+        }
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                int row = brickY + i;
+                int column = brickX + j;
+                if (brickData[i][j] != GameConstants.COLOR_EMPTY && isVisible(row, column)) {
+                    drawCell(boardGraphics, column, row - displayStartRow, displayedColors[row][column]);
+                }
+            }
+        }
+    }
+
+    private void drawBrick() {
+        if (brickData == null) {
+            return;
+        }
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                int row = brickY + i;
+                int column = brickX + j;
+                if (brickData[i][j] != GameConstants.COLOR_EMPTY && isVisible(row, column)) {
+                    drawCell(boardGraphics, column, row - displayStartRow, brickData[i][j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Restores the empty board cells under the ghost's last drawn position.
+     */
+    private void eraseGhost() {
+        if (brickData == null) {
+            return;
+        }
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                int row = ghostY + i;
+                int column = brickX + j;
+                if (brickData[i][j] != GameConstants.COLOR_EMPTY && isVisible(row, column)
+                        && displayedColors[row][column] == GameConstants.COLOR_EMPTY) {
+                    drawCell(boardGraphics, column, row - displayStartRow, GameConstants.COLOR_EMPTY);
+                }
+            }
+        }
+    }
+
+    private void drawGhost() {
+        if (brickData == null) {
+            return;
+        }
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                int row = ghostY + i;
+                int column = brickX + j;
+                int colorIndex = brickData[i][j];
+                if (colorIndex > GameConstants.COLOR_EMPTY && colorIndex < COLOR_COUNT && isVisible(row, column)
+                        && displayedColors[row][column] == GameConstants.COLOR_EMPTY) {
+                    double x = column * CELL_PITCH;
+                    double y = (row - displayStartRow) * CELL_PITCH;
+                    boardGraphics.clearRect(x, y, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+                    boardGraphics.drawImage(ghostTiles[colorIndex], x, y);
+                }
+            }
+        }
+    }
+
+    private boolean isVisible(int row, int column) {
+        return row >= displayStartRow && row < displayedColors.length
+                && column >= 0 && column < displayedColors[row].length;
+    }
+
+    private void drawCell(GraphicsContext graphics, int column, int row, int colorIndex) {
+        double x = column * CELL_PITCH;
+        double y = row * CELL_PITCH;
+        graphics.clearRect(x, y, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+        if (colorIndex > GameConstants.COLOR_EMPTY && colorIndex < COLOR_COUNT) {
+            graphics.drawImage(tiles[colorIndex], x, y);
+        }
+    }
+
+    /**
+     * Draws the rounded tile for one colour into an image, matching the node renderer's cells.
+     */
+    private static Image createTile(Paint fill) {
+        Canvas tileCanvas = new Canvas(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+        GraphicsContext graphics = tileCanvas.getGraphicsContext2D();
+        graphics.setFill(fill);
+        graphics.fillRoundRect(0, 0, GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE,
+                GameConstants.RECTANGLE_ARC_WIDTH, GameConstants.RECTANGLE_ARC_HEIGHT);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return tileCanvas.snapshot(parameters, null);
+    }
+}
@@ -0,0 +1,228 @@
+package com.comp2042;
+
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayStore;
+import com.comp2042.save.GameSaveManager;
+import com.comp2042.save.GameSaveMetadata;
+import com.comp2042.util.GameConstants;
+import javafx.application.Platform;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Game controller class that binds the headless {@link GameEngine} to the JavaFX user interface.
+ * The engine runs on an {@link EngineThread}: player actions are queued to it as commands, and
+ * once per JavaFX frame the latest {@link GameFrame} it published is pushed to the {@link GuiController}.
+ * Every finished game's {@link Replay} is stored, and the last one can be played back on the same engine.
+ * All methods must be called on the JavaFX application thread.
+ */
+public class GameController {
+
+    private final EngineThread engineThread;
+    private final GuiController viewGuiController;
+    private final ScoreProperties scoreProperties = new ScoreProperties();
+    private final BitSet dirtyRows = new BitSet();
+    private long shownSequence;
+    private int shownClearCount;
+    private boolean gameOverShown;
+    private long lastResetCommand;
+    private Replay lastReplay;
+    private boolean replaying;
+
+    /**
+     * Constructor to initialize the game controller and start the engine thread.
+     * 
+     * @param guiController GUI controller instance
+     */
+    public GameController(GuiController guiController) {
+        this.viewGuiController = guiController;
+        GameEngine engine = new GameEngine(GameConfig.standard());
+        this.engineThread = new EngineThread(engine);
+        GameFrame firstFrame = engineThread.acquireFrame();
+        viewGuiController.setGameController(this);
+        int hiddenRows = engine.getBoard().getConfig().getHiddenRows();
+        viewGuiController.initGameView(firstFrame.getBoard(), hiddenRows, firstFrame);
+        renderLatestFrame();
+        viewGuiController.bindScore(scoreProperties.scoreProperty());
+        viewGuiController.bindLines(scoreProperties.linesProperty());
+        viewGuiController.bindLevel(scoreProperties.levelProperty());
+        viewGuiController.bindHighScore(scoreProperties.highScoreProperty());
+        viewGuiController.showStartupGuide();
+        engineThread.start();
+    }
+
+    /**
+     * Records a key press for the engine thread, which applies the move and any autorepeat.
+     *
+     * @param action key action
+     */
+    public void keyPressed(EventType action) {
+        engineThread.recordInput(action, true);
+    }
+
+    /**
+     * Records a key release, ending autorepeat of that key.
+     *
+     * @param action key action
+     */
+    public void keyReleased(EventType action) {
+        engineThread.recordInput(action, false);
+    }
+
+    /**
+     * Pauses or resumes gravity on the engine thread.
+     *
+     * @param paused true to pause
+     */
+    public void setPaused(boolean paused) {
+        engineThread.setPaused(paused);
+    }
+
+    /**
+     * Shows the latest frame published by the engine thread, repainting only what changed since the last one shown.
+     * Called once per JavaFX pulse.
+     */
+    public void renderLatestFrame() {
+        GameFrame frame = engineThread.acquireFrame();
+        if (frame.getSequence() == shownSequence) {
+            return;
+        }
+        frame.collectRowsChangedSince(shownSequence, dirtyRows);
+        viewGuiController.refreshGameBackground(frame.getBoard(), dirtyRows);
+        dirtyRows.clear();
+        viewGuiController.refreshBrick(frame);
+        scoreProperties.update(frame);
+        if (frame.getClearCount() != shownClearCount) {
+            shownClearCount = frame.getClearCount();
+            viewGuiController.showScoreNotification(frame.getLastScoreBonus());
+        }
+        // Frames queued before the last new game or load may still report the previous game's end
+        boolean current = frame.getAppliedCommands() >= lastResetCommand;
+        if (frame.isGameOver() && current && !gameOverShown) {
+            gameOverShown = true;
+            if (!replaying) {
+                storeReplay();
+            }
+            viewGuiController.gameOver(frame.getScore(), frame.getHighScore(), frame.isNewHighScore());
+        } else if (!frame.isGameOver() && current) {
+            gameOverShown = false;
+        }
+        shownSequence = frame.getSequence();
+    }
+
+    /**
+     * Creates a new game.
+     */
+    public void createNewGame() {
+        stopReplay();
+        engineThread.submit(GameEngine::createNewGame);
+        lastResetCommand = engineThread.getSubmittedCommands();
+    }
+
+    /**
+     * Saves the current game state with the provided name.
+     * The state is captured on the engine thread and written in the background.
+     *
+     * @param saveName user provided save name
+     * @return future completed with true if save succeeded, false otherwise
+     */
+    public CompletableFuture<Boolean> saveGame(String saveName) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        engineThread.submit(engine -> engine.saveGame(saveName).thenAccept(result::complete));
+        return result;
+    }
+
+    /**
+     * Loads a saved game identified by the file-safe name on the engine thread.
+     * The view is reset once the load has succeeded.
+     *
+     * @param fileSafeName sanitized save identifier
+     * @return future completed with true if load succeeded, false otherwise
+     */
+    public CompletableFuture<Boolean> loadGame(String fileSafeName) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        stopReplay();
+        engineThread.submit(engine -> result.complete(engine.loadGame(fileSafeName)));
+        lastResetCommand = engineThread.getSubmittedCommands();
+        return result.thenApply(success -> {
+            if (success) {
+                Platform.runLater(viewGuiController::onGameLoaded);
+            }
+            return success;
+        });
+    }
+
+    /**
+     * Plays the last finished game back from its recording. Player input is ignored until it ends.
+     *
+     * @param fastForward true to play at {@link GameConstants#REPLAY_FAST_FORWARD_SPEED} times the recorded pace
+     * @return true if a replay was started, false if no game has finished yet
+     */
+    public boolean replayLastGame(boolean fastForward) {
+        if (lastReplay == null) {
+            return false;
+        }
+        replaying = true;
+        engineThread.playReplay(lastReplay, fastForward ? GameConstants.REPLAY_FAST_FORWARD_SPEED : 1);
+        lastResetCommand = engineThread.getSubmittedCommands();
+        return true;
+    }
+
+    /**
+     * Takes the finished game's recording on the engine thread and writes it to the replay folder.
+     */
+    private void storeReplay() {
+        engineThread.submit(engine -> {
+            Replay replay = engine.getReplay();
+            if (replay == null) {
+                return;
+            }
+            Platform.runLater(() -> lastReplay = replay);
+            ReplayStore.saveAsync(replay).exceptionally(exception -> {
+                System.err.println("Failed to save replay: " + exception.getMessage());
+                return null;
+            });
+        });
+    }
+
+    private void stopReplay() {
+        if (replaying) {
+            engineThread.cancelReplay();
+            replaying = false;
+        }
+    }
+
+    /**
+     * Lists all available saved games in the background, so pending writes never block the JavaFX thread.
+     *
+     * @return future completed with the save metadata, or an empty list if listing fails
+     */
+    public CompletableFuture<List<GameSaveMetadata>> listSavedGames() {
+        return GameSaveManager.listSavesAsync().exceptionally(exception -> {
+            System.err.println("Failed to list saves: " + exception.getMessage());
+            return List.of();
+        });
+    }
+
+    /**
+     * Deletes a saved game identified by the file-safe name in the background.
+     *
+     * @param fileSafeName sanitized save identifier
+     * @return future completed with true if deletion succeeded, false otherwise
+     */
+    public CompletableFuture<Boolean> deleteSave(String fileSafeName) {
+        return GameSaveManager.deleteSaveAsync(fileSafeName).exceptionally(exception -> {
+            System.err.println("Failed to delete save: " + exception.getMessage());
+            return false;
+        });
+    }
+
+    /**
+     * Stops the engine thread.
+     */
+    public void shutdown() {
+        engineThread.stop();
+    }
+}
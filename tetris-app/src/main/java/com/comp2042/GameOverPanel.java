@@ -34,8 +34,10 @@ public class GameOverPanel extends BorderPane {
         finalScoreLabel.getStyleClass().add("scoreLabelStyle");
         Label bestScoreLabel = new Label("BEST");
         bestScoreLabel.getStyleClass().add("scoreLabelStyle");
+        Label replayHintLabel = new Label("R: REPLAY");
+        replayHintLabel.getStyleClass().add("scoreLabelStyle");
         scoreBox.getChildren().addAll(gameOverLabel, finalScoreLabel, scoreValueLabel,
-                bestScoreLabel, highScoreValueLabel, newRecordLabel);
+                bestScoreLabel, highScoreValueLabel, newRecordLabel, replayHintLabel);
         setCenter(scoreBox);
     }
 
@@ -0,0 +1,37 @@
+package com.comp2042;
+
+import java.util.BitSet;
+
+/**
+ * Draws the game board, the falling brick and the next brick preview.
+ * The implementation is chosen at startup with the {@code tetris.renderer} system property.
+ */
+public interface GameRenderer {
+
+    /** System property that selects the renderer. */
+    String RENDERER_PROPERTY = "tetris.renderer";
+
+    /**
+     * Builds the display for a board of the given size and shows the first brick.
+     *
+     * @param boardMatrix game board matrix
+     * @param hiddenRows number of top board rows that are not displayed
+     * @param brick current brick data
+     */
+    void init(int[][] boardMatrix, int hiddenRows, BrickView brick);
+
+    /**
+     * Repaints the board rows that changed.
+     *
+     * @param board game board matrix
+     * @param dirtyRows rows that changed since the last refresh
+     */
+    void refreshBackground(int[][] board, BitSet dirtyRows);
+
+    /**
+     * Repaints the falling brick and the next brick preview.
+     *
+     * @param brick brick data
+     */
+    void refreshBrick(BrickView brick);
+}
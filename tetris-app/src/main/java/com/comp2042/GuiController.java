@@ -3,9 +3,7 @@ package com.comp2042;
 import com.comp2042.save.GameSaveManager;
 import com.comp2042.save.GameSaveMetadata;
 import com.comp2042.util.ColorMapper;
-import com.comp2042.util.GameConstants;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -29,11 +27,10 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
 
 import java.net.URL;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
@@ -77,15 +74,11 @@ public class GuiController implements Initializable {
     @FXML
     private Button pauseButton;
 
-    private Rectangle[][] displayMatrix;
+    private GameRenderer renderer;
 
-    private InputEventListener eventListener;
+    private GameController gameController;
 
-    private Rectangle[][] rectangles;
-
-    private Rectangle[][] nextBrickRectangles;
-
-    private Timeline timeLine;
+    private AnimationTimer renderLoop;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty();
 
@@ -113,6 +106,17 @@ public class GuiController implements Initializable {
                 if (keyEvent.getCode() == KeyCode.N) {
                     newGame(null);
                 }
+                if (keyEvent.getCode() == KeyCode.R && isGameOver.getValue()) {
+                    replayLastGame(keyEvent.isShiftDown());
+                }
+            }
+        });
+        // Releases are always recorded so the engine never keeps repeating a key that is up
+        gamePanel.setOnKeyReleased(keyEvent -> {
+            EventType action = toAction(keyEvent.getCode());
+            if (action != null && gameController != null) {
+                gameController.keyReleased(action);
+                keyEvent.consume();
             }
         });
         gameOverPanel.setVisible(false);
@@ -128,56 +132,30 @@ public class GuiController implements Initializable {
      * Initializes the game view.
      * 
      * @param boardMatrix game board matrix
+     * @param hiddenRows number of top board rows that are not displayed
      * @param brick current brick data
      */
-    public void initGameView(int[][] boardMatrix, ViewData brick) {
-        // Initialize game board display matrix
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        final int displayStartRow = 2; // Start displaying from row 2 (first 2 rows as buffer)
-        for (int i = displayStartRow; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(ColorMapper.getColor(GameConstants.COLOR_EMPTY));
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - displayStartRow);
-            }
-        }
+    public void initGameView(int[][] boardMatrix, int hiddenRows, BrickView brick) {
+        renderer = createRenderer();
+        renderer.init(boardMatrix, hiddenRows, brick);
 
-        // Initialize current brick display
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                rectangle.setFill(ColorMapper.getColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
+        // The engine runs on its own thread; each JavaFX pulse shows the latest frame it published
+        renderLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                gameController.renderLatestFrame();
             }
-        }
-        
-        // Set brick panel position
-        updateBrickPanelPosition(brick);
-
-        // Initialize next brick preview display
-        initNextBrickDisplay(brick);
-
-        // Initialize game loop timeline
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(GameConstants.GAME_LOOP_INTERVAL_MS),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        };
+        renderLoop.start();
         updatePauseButtonText();
     }
 
     /**
-     * Shows the startup guide overlay and pauses the timeline until the player chooses an action.
+     * Shows the startup guide overlay and pauses the game loop until the player chooses an action.
      */
     public void showStartupGuide() {
         showStartupOverlay(true);
-        if (timeLine != null) {
-            timeLine.pause();
-        }
+        gameController.setPaused(true);
         isPause.setValue(true);
         isGameOver.setValue(false);
         updatePauseButtonText();
@@ -185,18 +163,16 @@ public class GuiController implements Initializable {
     }
     
     /**
-     * Updates the brick panel position.
-     * 
-     * @param brick brick data
+     * Creates the renderer selected by the {@value GameRenderer#RENDERER_PROPERTY} system property:
+     * {@code canvas} for the single-canvas renderer, anything else for one node per cell.
+     *
+     * @return game renderer
      */
-    private void updateBrickPanelPosition(ViewData brick) {
-        brickPanel.setLayoutX(gamePanel.getLayoutX() + 
-            brick.getxPosition() * brickPanel.getVgap() + 
-            brick.getxPosition() * GameConstants.BRICK_SIZE);
-        brickPanel.setLayoutY(GameConstants.DISPLAY_OFFSET_Y + 
-            gamePanel.getLayoutY() + 
-            brick.getyPosition() * brickPanel.getHgap() + 
-            brick.getyPosition() * GameConstants.BRICK_SIZE);
+    private GameRenderer createRenderer() {
+        if ("canvas".equalsIgnoreCase(System.getProperty(GameRenderer.RENDERER_PROPERTY))) {
+            return new CanvasGameRenderer(gamePanel, brickPanel, nextBrickPanel);
+        }
+        return new NodeGameRenderer(gamePanel, brickPanel, nextBrickPanel);
     }
 
     /**
@@ -217,125 +193,38 @@ public class GuiController implements Initializable {
      * 
      * @param brick brick data
      */
-    public void refreshBrick(ViewData brick) {
-        updateBrickPanelPosition(brick);
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-            }
-        }
-        // Update next brick preview
-        refreshNextBrickDisplay(brick);
-    }
-
-    /**
-     * Initializes the next brick preview display.
-     * 
-     * @param brick brick data containing next brick information
-     */
-    private void initNextBrickDisplay(ViewData brick) {
-        // Clear existing children if any
-        nextBrickPanel.getChildren().clear();
-        
-        int[][] nextBrickData = brick.getNextBrickData();
-        if (nextBrickData != null && nextBrickData.length > 0) {
-            nextBrickRectangles = new Rectangle[nextBrickData.length][nextBrickData[0].length];
-            for (int i = 0; i < nextBrickData.length; i++) {
-                for (int j = 0; j < nextBrickData[i].length; j++) {
-                    Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
-                    setRectangleData(nextBrickData[i][j], rectangle);
-                    nextBrickRectangles[i][j] = rectangle;
-                    nextBrickPanel.add(rectangle, j, i);
-                }
-            }
-        }
-    }
-
-    /**
-     * Refreshes the next brick preview display.
-     * If the next brick size has changed, reinitialize the display.
-     * 
-     * @param brick brick data containing next brick information
-     */
-    private void refreshNextBrickDisplay(ViewData brick) {
-        int[][] nextBrickData = brick.getNextBrickData();
-        if (nextBrickData != null && nextBrickData.length > 0) {
-            // Check if size has changed, if so reinitialize
-            if (nextBrickRectangles == null || 
-                nextBrickRectangles.length != nextBrickData.length ||
-                (nextBrickRectangles.length > 0 && nextBrickRectangles[0].length != nextBrickData[0].length)) {
-                initNextBrickDisplay(brick);
-            } else {
-                // Update existing rectangles
-                for (int i = 0; i < nextBrickData.length && i < nextBrickRectangles.length; i++) {
-                    for (int j = 0; j < nextBrickData[i].length && j < nextBrickRectangles[i].length; j++) {
-                        setRectangleData(nextBrickData[i][j], nextBrickRectangles[i][j]);
-                    }
-                }
-            }
-        }
+    public void refreshBrick(BrickView brick) {
+        renderer.refreshBrick(brick);
     }
 
     /**
      * Refreshes the game background display.
      * 
      * @param board game board matrix
+     * @param dirtyRows rows that changed since the last refresh
      */
-    public void refreshGameBackground(int[][] board) {
-        final int displayStartRow = 2;
-        for (int i = displayStartRow; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
-        }
+    public void refreshGameBackground(int[][] board, BitSet dirtyRows) {
+        renderer.refreshBackground(board, dirtyRows);
     }
 
-    /**
-     * Sets rectangle display data.
-     * 
-     * @param colorIndex color index
-     * @param rectangle rectangle object
-     */
-    private void setRectangleData(int colorIndex, Rectangle rectangle) {
-        rectangle.setFill(ColorMapper.getColor(colorIndex));
-        rectangle.setArcHeight(GameConstants.RECTANGLE_ARC_HEIGHT);
-        rectangle.setArcWidth(GameConstants.RECTANGLE_ARC_WIDTH);
-    }
-
-    /**
-     * Handles brick down movement event.
-     * 
-     * @param event movement event
-     */
-    private void moveDown(MoveEvent event) {
-        if (!isPause.getValue()) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                showScoreNotification(downData.getClearRow().getScoreBonus());
-            }
-            refreshBrick(downData.getViewData());
-        }
-        gamePanel.requestFocus();
-    }
-    
     /**
      * Shows score notification.
      * 
      * @param scoreBonus score bonus
      */
-    private void showScoreNotification(int scoreBonus) {
+    public void showScoreNotification(int scoreBonus) {
         NotificationPanel notificationPanel = new NotificationPanel("+" + scoreBonus);
         groupNotification.getChildren().add(notificationPanel);
         notificationPanel.showScore(groupNotification.getChildren());
     }
 
     /**
-     * Sets the input event listener for handling game events.
+     * Sets the game controller that receives player actions.
      *
-     * @param eventListener event listener instance
+     * @param gameController game controller instance
      */
-    public void setEventListener(InputEventListener eventListener) {
-        this.eventListener = eventListener;
+    public void setGameController(GameController gameController) {
+        this.gameController = gameController;
     }
 
     /**
@@ -383,46 +272,41 @@ public class GuiController implements Initializable {
         }
     }
 
-    /**
-     * Updates the auto-drop speed by adjusting the timeline playback rate.
-     *
-     * @param intervalMillis desired drop interval in milliseconds
-     */
-    public void updateGameSpeed(int intervalMillis) {
-        if (timeLine == null || intervalMillis <= 0) {
-            return;
-        }
-        double rate = (double) GameConstants.GAME_LOOP_INTERVAL_MS / intervalMillis;
-        timeLine.setRate(rate);
-    }
-    
     /**
      * Handles game key press events.
      * 
      * @param keyEvent key event
      */
     private void handleGameKeyPress(KeyEvent keyEvent) {
-        KeyCode code = keyEvent.getCode();
-        if (code == KeyCode.LEFT || code == KeyCode.A) {
-            refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.RIGHT || code == KeyCode.D) {
-            refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.UP || code == KeyCode.W) {
-            refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-            keyEvent.consume();
-        } else if (code == KeyCode.DOWN || code == KeyCode.S) {
-            moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+        EventType action = toAction(keyEvent.getCode());
+        if (action != null) {
+            // Held keys are repeated by the engine; operating system repeats are ignored there
+            gameController.keyPressed(action);
             keyEvent.consume();
         }
     }
 
+    /**
+     * Maps a key to the game action it controls.
+     *
+     * @param code key code
+     * @return game action, or null if the key is not a game key
+     */
+    private static EventType toAction(KeyCode code) {
+        return switch (code) {
+            case LEFT, A -> EventType.LEFT;
+            case RIGHT, D -> EventType.RIGHT;
+            case UP, W -> EventType.ROTATE;
+            case DOWN, S -> EventType.DOWN;
+            case SPACE -> EventType.HARD_DROP;
+            default -> null;
+        };
+    }
+
     /**
      * Handles game over.
      */
     public void gameOver(int finalScore, int highScore, boolean isNewRecord) {
-        timeLine.stop();
         gameOverPanel.updateScores(finalScore, highScore, isNewRecord);
         gameOverPanel.setVisible(true);
         showPauseIndicator(false);
@@ -438,11 +322,28 @@ public class GuiController implements Initializable {
      */
     public void newGame(ActionEvent actionEvent) {
         showStartupOverlay(false);
-        timeLine.stop();
         gameOverPanel.setVisible(false);
-        eventListener.createNewGame();
+        gameController.createNewGame();
         gamePanel.requestFocus();
-        timeLine.play();
+        gameController.setPaused(false);
+        isPause.setValue(false);
+        showPauseIndicator(false);
+        isGameOver.setValue(false);
+        updatePauseButtonText();
+    }
+
+    /**
+     * Plays the game that just ended back from its recording.
+     *
+     * @param fastForward true to play faster than the recorded pace
+     */
+    private void replayLastGame(boolean fastForward) {
+        if (!gameController.replayLastGame(fastForward)) {
+            return;
+        }
+        gameOverPanel.setVisible(false);
+        gamePanel.requestFocus();
+        gameController.setPaused(false);
         isPause.setValue(false);
         showPauseIndicator(false);
         isGameOver.setValue(false);
@@ -455,7 +356,7 @@ public class GuiController implements Initializable {
      * @param actionEvent action event
      */
     public void pauseGame(ActionEvent actionEvent) {
-        if (timeLine == null) {
+        if (gameController == null) {
             return;
         }
         if (isPause.getValue()) {
@@ -465,7 +366,7 @@ public class GuiController implements Initializable {
         if (isGameOver.getValue()) {
             return;
         }
-        timeLine.pause();
+        gameController.setPaused(true);
         isPause.setValue(true);
         showPauseIndicator(true);
         updatePauseButtonText();
@@ -476,10 +377,10 @@ public class GuiController implements Initializable {
      * Resumes the game if it is currently paused.
      */
     private void resumeGame() {
-        if (timeLine == null) {
+        if (gameController == null) {
             return;
         }
-        timeLine.play();
+        gameController.setPaused(false);
         isPause.setValue(false);
         showPauseIndicator(false);
         updatePauseButtonText();
@@ -492,8 +393,8 @@ public class GuiController implements Initializable {
      * @param actionEvent action event
      */
     public void exitGame(ActionEvent actionEvent) {
-        if (timeLine != null) {
-            timeLine.stop();
+        if (renderLoop != null) {
+            renderLoop.stop();
         }
         Platform.exit();
     }
@@ -505,7 +406,7 @@ public class GuiController implements Initializable {
      */
     @FXML
     public void saveGame(ActionEvent actionEvent) {
-        if (eventListener == null) {
+        if (gameController == null) {
             return;
         }
         boolean wasPaused = pauseForDialog();
@@ -514,33 +415,52 @@ public class GuiController implements Initializable {
         dialog.setHeaderText("Enter a name for your save");
         dialog.setContentText("Save name:");
         Optional<String> result = dialog.showAndWait();
-        result.ifPresent(name -> {
-            String trimmedName = name.trim();
-            if (trimmedName.isEmpty()) {
+        String trimmedName = result.map(String::trim).orElse("");
+        if (trimmedName.isEmpty()) {
+            if (result.isPresent()) {
                 showErrorAlert("Invalid Name", "Save name cannot be empty.");
-                return;
-            }
-            String fileSafeName = GameSaveManager.toFileSafeName(trimmedName);
-            if (GameSaveManager.saveExists(fileSafeName)) {
-                Alert overwriteAlert = new Alert(Alert.AlertType.CONFIRMATION,
-                        "A save with this name already exists. Overwrite it?",
-                        ButtonType.CANCEL,
-                        ButtonType.OK);
-                overwriteAlert.setTitle("Overwrite Existing Save");
-                overwriteAlert.setHeaderText("Confirm overwrite");
-                Optional<ButtonType> confirmation = overwriteAlert.showAndWait();
-                if (!confirmation.isPresent() || confirmation.get() != ButtonType.OK) {
-                    showInformationAlert("Save Cancelled", "Existing save was not overwritten.");
-                    return;
-                }
             }
-            boolean success = eventListener.saveGame(trimmedName);
+            finishSaveDialog(wasPaused);
+            return;
+        }
+        // The existence check waits for pending writes to the save, so it runs off the JavaFX thread
+        GameSaveManager.saveExistsAsync(GameSaveManager.toFileSafeName(trimmedName))
+                .exceptionally(exception -> false)
+                .thenAccept(exists -> Platform.runLater(() -> {
+                    if (!exists || confirmOverwrite()) {
+                        submitSave(trimmedName);
+                    }
+                    finishSaveDialog(wasPaused);
+                }));
+    }
+
+    private boolean confirmOverwrite() {
+        Alert overwriteAlert = new Alert(Alert.AlertType.CONFIRMATION,
+                "A save with this name already exists. Overwrite it?",
+                ButtonType.CANCEL,
+                ButtonType.OK);
+        overwriteAlert.setTitle("Overwrite Existing Save");
+        overwriteAlert.setHeaderText("Confirm overwrite");
+        Optional<ButtonType> confirmation = overwriteAlert.showAndWait();
+        if (!confirmation.isPresent() || confirmation.get() != ButtonType.OK) {
+            showInformationAlert("Save Cancelled", "Existing save was not overwritten.");
+            return false;
+        }
+        return true;
+    }
+
+    private void submitSave(String saveName) {
+        // The file is written in the background; report the result once it is on disk
+        gameController.saveGame(saveName).thenAccept(success -> Platform.runLater(() -> {
             if (success) {
-                showInformationAlert("Game Saved", "Progress saved as \"" + trimmedName + "\".");
+                showInformationAlert("Game Saved", "Progress saved as \"" + saveName + "\".");
             } else {
                 showErrorAlert("Save Failed", "An unexpected error prevented saving.");
             }
-        });
+        }));
+    }
+
+    private void finishSaveDialog(boolean wasPaused) {
         resumeAfterDialog(wasPaused);
         updatePauseButtonText();
         gamePanel.requestFocus();
@@ -553,17 +473,20 @@ public class GuiController implements Initializable {
      */
     @FXML
     public void loadGame(ActionEvent actionEvent) {
-        if (eventListener == null) {
+        if (gameController == null) {
             return;
         }
         boolean wasPaused = pauseForDialog();
-        boolean loaded = showLoadSelectionDialog();
-        resumeAfterDialog(wasPaused);
-        if (loaded) {
-            showStartupOverlay(false);
-            updatePauseButtonText();
-        }
-        gamePanel.requestFocus();
+        // Listing may wait for pending writes, so the saves are fetched off the JavaFX thread
+        gameController.listSavedGames().thenAccept(saves -> Platform.runLater(() -> {
+            boolean loaded = showLoadSelectionDialog(saves);
+            resumeAfterDialog(wasPaused);
+            if (loaded) {
+                showStartupOverlay(false);
+                updatePauseButtonText();
+            }
+            gamePanel.requestFocus();
+        }));
     }
 
     /**
@@ -573,14 +496,20 @@ public class GuiController implements Initializable {
      */
     @FXML
     public void deleteSave(ActionEvent actionEvent) {
-        if (eventListener == null) {
+        if (gameController == null) {
             return;
         }
         boolean wasPaused = pauseForDialog();
-        List<GameSaveMetadata> saves = eventListener.listSavedGames();
+        gameController.listSavedGames().thenAccept(saves -> Platform.runLater(() -> {
+            showDeleteSelectionDialog(saves);
+            resumeAfterDialog(wasPaused);
+            gamePanel.requestFocus();
+        }));
+    }
+
+    private void showDeleteSelectionDialog(List<GameSaveMetadata> saves) {
         if (saves.isEmpty()) {
             showInformationAlert("No Saves Found", "There are no saves to delete.");
-            resumeAfterDialog(wasPaused);
             return;
         }
 
@@ -599,16 +528,16 @@ public class GuiController implements Initializable {
             confirm.setHeaderText(selected.get().getDisplayName());
             Optional<ButtonType> response = confirm.showAndWait();
             if (response.isPresent() && response.get() == ButtonType.OK) {
-                boolean deleted = eventListener.deleteSave(selected.get().getFileSafeName());
-                if (deleted) {
-                    showInformationAlert("Save Deleted", "Selected save has been deleted.");
-                } else {
-                    showErrorAlert("Delete Failed", "Unable to delete the selected save.");
-                }
+                gameController.deleteSave(selected.get().getFileSafeName())
+                        .thenAccept(deleted -> Platform.runLater(() -> {
+                            if (deleted) {
+                                showInformationAlert("Save Deleted", "Selected save has been deleted.");
+                            } else {
+                                showErrorAlert("Delete Failed", "Unable to delete the selected save.");
+                            }
+                        }));
             }
         }
-        resumeAfterDialog(wasPaused);
-        gamePanel.requestFocus();
     }
 
     /**
@@ -641,8 +570,7 @@ public class GuiController implements Initializable {
         }
     }
 
-    private boolean showLoadSelectionDialog() {
-        List<GameSaveMetadata> saves = eventListener.listSavedGames();
+    private boolean showLoadSelectionDialog(List<GameSaveMetadata> saves) {
         if (saves.isEmpty()) {
             showInformationAlert("No Saves Found", "You have not created any saves yet.");
             return false;
@@ -656,17 +584,19 @@ public class GuiController implements Initializable {
         if (!selected.isPresent()) {
             return false;
         }
-        boolean success = eventListener.loadGame(selected.get().getFileSafeName());
-        if (!success) {
-            showErrorAlert("Load Failed", "Unable to load the selected save.");
-        }
-        return success;
+        // The engine thread loads the save; the view is reset once the new frame is ready
+        gameController.loadGame(selected.get().getFileSafeName()).thenAccept(success -> {
+            if (!success) {
+                Platform.runLater(() -> showErrorAlert("Load Failed", "Unable to load the selected save."));
+            }
+        });
+        return true;
     }
 
     private boolean pauseForDialog() {
         boolean alreadyPaused = isPause.getValue();
-        if (!alreadyPaused && timeLine != null) {
-            timeLine.pause();
+        if (!alreadyPaused && gameController != null) {
+            gameController.setPaused(true);
             isPause.setValue(true);
             updatePauseButtonText();
         }
@@ -675,8 +605,8 @@ public class GuiController implements Initializable {
     }
 
     private void resumeAfterDialog(boolean wasPaused) {
-        if (!wasPaused && timeLine != null) {
-            timeLine.play();
+        if (!wasPaused && gameController != null) {
+            gameController.setPaused(false);
             isPause.setValue(false);
             updatePauseButtonText();
         }
@@ -1,6 +1,7 @@
 package com.comp2042;
 
 import com.comp2042.util.GameConstants;
+import com.comp2042.util.PersistenceWriter;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -17,6 +18,8 @@ import java.net.URL;
  */
 public class Main extends Application {
 
+    private GameController gameController;
+
     /**
      * JavaFX application startup method.
      * 
@@ -36,7 +39,18 @@ public class Main extends Application {
         primaryStage.show();
         
         // Initialize game controller
-        new GameController(guiController);
+        gameController = new GameController(guiController);
+    }
+
+    /**
+     * JavaFX shutdown method. Stops the engine thread and waits for queued saves and high scores to reach the disk.
+     */
+    @Override
+    public void stop() {
+        if (gameController != null) {
+            gameController.shutdown();
+        }
+        PersistenceWriter.flush();
     }
 
     /**
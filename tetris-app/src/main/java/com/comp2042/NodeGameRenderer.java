@@ -0,0 +1,234 @@
+package com.comp2042;
+
+import com.comp2042.util.ColorMapper;
+import com.comp2042.util.GameConstants;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+import java.util.BitSet;
+
+/**
+ * Default renderer that shows every board, brick and preview cell as its own {@link Rectangle} node.
+ * The ghost piece is drawn by tinting the empty board cells at the brick's landing position.
+ */
+public class NodeGameRenderer implements GameRenderer {
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final GridPane nextBrickPanel;
+
+    private int displayStartRow;
+    private Rectangle[][] displayMatrix;
+    private int[][] displayedColors;
+    private int[][] ghostData;
+    private int ghostX;
+    private int ghostY;
+    private Rectangle[][] rectangles;
+    private Rectangle[][] nextBrickRectangles;
+
+    /**
+     * Constructor to create a node renderer.
+     *
+     * @param gamePanel grid that holds the board cells
+     * @param brickPanel grid that holds the falling brick cells
+     * @param nextBrickPanel grid that holds the next brick preview
+     */
+    public NodeGameRenderer(GridPane gamePanel, GridPane brickPanel, GridPane nextBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+    }
+
+    @Override
+    public void init(int[][] boardMatrix, int hiddenRows, BrickView brick) {
+        // Hidden rows at the top are a spawn buffer and are not shown
+        displayStartRow = hiddenRows;
+
+        // Initialize game board display matrix
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        displayedColors = new int[boardMatrix.length][boardMatrix[0].length];
+        for (int i = displayStartRow; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle rectangle = createCell(GameConstants.COLOR_EMPTY);
+                displayedColors[i][j] = GameConstants.COLOR_EMPTY;
+                displayMatrix[i][j] = rectangle;
+                gamePanel.add(rectangle, j, i - displayStartRow);
+            }
+        }
+
+        // Initialize current brick display
+        int[][] brickData = brick.getBrickData();
+        rectangles = new Rectangle[brickData.length][brickData[0].length];
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                Rectangle rectangle = createCell(brickData[i][j]);
+                rectangles[i][j] = rectangle;
+                brickPanel.add(rectangle, j, i);
+            }
+        }
+
+        // Set brick panel position
+        updateBrickPanelPosition(brick);
+        moveGhost(brick);
+
+        // Initialize next brick preview display
+        initNextBrickDisplay(brick);
+    }
+
+    /**
+     * Only the given rows are visited, and only cells whose colour differs from what is
+     * already shown are repainted.
+     */
+    @Override
+    public void refreshBackground(int[][] board, BitSet dirtyRows) {
+        for (int i = dirtyRows.nextSetBit(displayStartRow); i >= 0 && i < board.length; i = dirtyRows.nextSetBit(i + 1)) {
+            int[] boardRow = board[i];
+            int[] shownRow = displayedColors[i];
+            for (int j = 0; j < boardRow.length; j++) {
+                if (shownRow[j] != boardRow[j]) {
+                    shownRow[j] = boardRow[j];
+                    displayMatrix[i][j].setFill(ColorMapper.getColor(boardRow[j]));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void refreshBrick(BrickView brick) {
+        updateBrickPanelPosition(brick);
+        moveGhost(brick);
+        int[][] brickData = brick.getBrickData();
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                setRectangleData(brickData[i][j], rectangles[i][j]);
+            }
+        }
+        // Update next brick preview
+        refreshNextBrickDisplay(brick);
+    }
+
+    /**
+     * Updates the brick panel position.
+     *
+     * @param brick brick data
+     */
+    private void updateBrickPanelPosition(BrickView brick) {
+        brickPanel.setLayoutX(gamePanel.getLayoutX() +
+            brick.getxPosition() * brickPanel.getVgap() +
+            brick.getxPosition() * GameConstants.BRICK_SIZE);
+        int displayRow = brick.getyPosition() - displayStartRow;
+        brickPanel.setLayoutY(gamePanel.getLayoutY() +
+            displayRow * brickPanel.getHgap() +
+            displayRow * GameConstants.BRICK_SIZE);
+    }
+
+    /**
+     * Restores the board cells under the previous ghost piece and tints the empty cells under the new one.
+     *
+     * @param brick brick data
+     */
+    private void moveGhost(BrickView brick) {
+        paintGhost(false);
+        ghostData = brick.getBrickData();
+        ghostX = brick.getxPosition();
+        ghostY = brick.getGhostY();
+        paintGhost(true);
+    }
+
+    private void paintGhost(boolean show) {
+        if (ghostData == null) {
+            return;
+        }
+        for (int i = 0; i < ghostData.length; i++) {
+            for (int j = 0; j < ghostData[i].length; j++) {
+                int row = ghostY + i;
+                int column = ghostX + j;
+                if (ghostData[i][j] == GameConstants.COLOR_EMPTY || row < displayStartRow
+                        || row >= displayMatrix.length || column < 0 || column >= displayMatrix[row].length) {
+                    continue;
+                }
+                int shown = displayedColors[row][column];
+                if (shown == GameConstants.COLOR_EMPTY) {
+                    displayMatrix[row][column].setFill(show
+                            ? ColorMapper.getGhostColor(ghostData[i][j])
+                            : ColorMapper.getColor(shown));
+                }
+            }
+        }
+    }
+
+    /**
+     * Initializes the next brick preview display.
+     *
+     * @param brick brick data containing next brick information
+     */
+    private void initNextBrickDisplay(BrickView brick) {
+        // Clear existing children if any
+        nextBrickPanel.getChildren().clear();
+
+        int[][] nextBrickData = brick.getNextBrickData();
+        if (nextBrickData != null && nextBrickData.length > 0) {
+            nextBrickRectangles = new Rectangle[nextBrickData.length][nextBrickData[0].length];
+            for (int i = 0; i < nextBrickData.length; i++) {
+                for (int j = 0; j < nextBrickData[i].length; j++) {
+                    Rectangle rectangle = createCell(nextBrickData[i][j]);
+                    nextBrickRectangles[i][j] = rectangle;
+                    nextBrickPanel.add(rectangle, j, i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Refreshes the next brick preview display.
+     * If the next brick size has changed, reinitialize the display.
+     *
+     * @param brick brick data containing next brick information
+     */
+    private void refreshNextBrickDisplay(BrickView brick) {
+        int[][] nextBrickData = brick.getNextBrickData();
+        if (nextBrickData != null && nextBrickData.length > 0) {
+            // Check if size has changed, if so reinitialize
+            if (nextBrickRectangles == null ||
+                nextBrickRectangles.length != nextBrickData.length ||
+                (nextBrickRectangles.length > 0 && nextBrickRectangles[0].length != nextBrickData[0].length)) {
+                initNextBrickDisplay(brick);
+            } else {
+                // Update existing rectangles
+                for (int i = 0; i < nextBrickData.length && i < nextBrickRectangles.length; i++) {
+                    for (int j = 0; j < nextBrickData[i].length && j < nextBrickRectangles[i].length; j++) {
+                        setRectangleData(nextBrickData[i][j], nextBrickRectangles[i][j]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a board-sized cell. The rounded corners never change, so they are set once here.
+     *
+     * @param colorIndex initial color index
+     * @return new rectangle
+     */
+    private Rectangle createCell(int colorIndex) {
+        Rectangle rectangle = new Rectangle(GameConstants.BRICK_SIZE, GameConstants.BRICK_SIZE);
+        rectangle.setArcHeight(GameConstants.RECTANGLE_ARC_HEIGHT);
+        rectangle.setArcWidth(GameConstants.RECTANGLE_ARC_WIDTH);
+        rectangle.setFill(ColorMapper.getColor(colorIndex));
+        return rectangle;
+    }
+
+    /**
+     * Sets rectangle display data.
+     *
+     * @param colorIndex color index
+     * @param rectangle rectangle object
+     */
+    private void setRectangleData(int colorIndex, Rectangle rectangle) {
+        Paint color = ColorMapper.getColor(colorIndex);
+        if (rectangle.getFill() != color) {
+            rectangle.setFill(color);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042;
+
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * JavaFX adapter exposing the score values of published {@link GameFrame}s as bindable properties.
+ * The score itself lives on the engine thread, so the properties are updated from frames on the
+ * JavaFX thread instead of by listening to the {@link Score}.
+ */
+public final class ScoreProperties {
+
+    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
+    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private final IntegerProperty highScore = new SimpleIntegerProperty(0);
+
+    /**
+     * Updates the properties from a frame.
+     *
+     * @param frame frame being shown
+     */
+    public void update(GameFrame frame) {
+        score.set(frame.getScore());
+        linesCleared.set(frame.getLinesCleared());
+        level.set(frame.getLevel());
+        highScore.set(frame.getHighScore());
+    }
+
+    /**
+     * Gets the score property for JavaFX binding.
+     *
+     * @return score property
+     */
+    public IntegerProperty scoreProperty() {
+        return score;
+    }
+
+    /**
+     * Gets the cleared lines property for JavaFX binding.
+     *
+     * @return cleared lines property
+     */
+    public IntegerProperty linesProperty() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the level property for JavaFX binding.
+     *
+     * @return level property
+     */
+    public IntegerProperty levelProperty() {
+        return level;
+    }
+
+    /**
+     * Gets the high score property for JavaFX binding.
+     *
+     * @return high score property
+     */
+    public IntegerProperty highScoreProperty() {
+        return highScore;
+    }
+}
@@ -8,6 +8,8 @@ import javafx.scene.paint.Paint;
  * Separates color logic from GUI controller to improve maintainability.
  */
 public final class ColorMapper {
+
+    private static final Paint[] GHOST_COLORS = createGhostColors();
     
     private ColorMapper() {
         throw new AssertionError("Cannot instantiate utility class");
@@ -32,5 +34,27 @@ public final class ColorMapper {
             default -> Color.WHITE;
         };
     }
+
+    /**
+     * Gets the translucent Paint used to draw a brick's ghost piece.
+     * The same instance is returned for every call with the same index.
+     *
+     * @param colorIndex color index (0-7)
+     * @return ghost Paint, transparent for the empty index
+     */
+    public static Paint getGhostColor(int colorIndex) {
+        if (colorIndex > GameConstants.COLOR_EMPTY && colorIndex < GHOST_COLORS.length) {
+            return GHOST_COLORS[colorIndex];
+        }
+        return Color.TRANSPARENT;
+    }
+
+    private static Paint[] createGhostColors() {
+        Paint[] colors = new Paint[GameConstants.COLOR_BRICK_7 + 1];
+        for (int colorIndex = GameConstants.COLOR_BRICK_1; colorIndex < colors.length; colorIndex++) {
+            colors[colorIndex] = ((Color) getColor(colorIndex)).deriveColor(0, 1, 1, GameConstants.GHOST_OPACITY);
+        }
+        return colors;
+    }
 }
 
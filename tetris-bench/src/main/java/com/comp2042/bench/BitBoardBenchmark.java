@@ -0,0 +1,109 @@
+package com.comp2042.bench;
+
+import com.comp2042.BitBoard;
+import com.comp2042.GameConfig;
+import com.comp2042.save.GameSaveData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link BitBoard} movement and the piece-lock cycle, on the same fixtures and board sizes as
+ * {@link SimpleBoardBenchmark} so the two boards can be compared directly.
+ * Run with {@code -prof gc} to report bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BitBoardBenchmark {
+
+    @Param
+    private BoardFixture fixture;
+
+    @Param({"10x25", "20x40", "64x256"})
+    private String boardSize;
+
+    private GameConfig config;
+    private BitBoard board;
+    private GameSaveData lockState;
+
+    /**
+     * Creates the board and loads the selected fixture.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        String[] size = boardSize.split("x");
+        config = GameConfig.builder()
+                .width(Integer.parseInt(size[0]))
+                .height(Integer.parseInt(size[1]))
+                .build();
+        board = new BitBoard(config);
+        lockState = fixture.createLockState(config);
+        board.restoreState(lockState);
+    }
+
+    /**
+     * One gravity step. When the brick is blocked it is put back at the spawn position,
+     * so blocked steps are still measured as a single call.
+     *
+     * @return whether the brick moved
+     */
+    @Benchmark
+    public boolean moveBrickDown() {
+        boolean moved = board.moveBrickDown();
+        if (!moved) {
+            board.moveBrickTo(config.getSpawnX(), config.getSpawnY(), 0);
+        }
+        return moved;
+    }
+
+    /**
+     * State for the lock cycle, restored before every invocation because locking mutates the board.
+     */
+    @State(Scope.Thread)
+    public static class LockState {
+
+        private BitBoard board;
+
+        /**
+         * Restores the fixture with a vertical I brick resting in the well.
+         *
+         * @param benchmark enclosing benchmark state holding the fixture
+         */
+        @Setup(Level.Invocation)
+        public void setUp(BitBoardBenchmark benchmark) {
+            if (board == null) {
+                board = new BitBoard(benchmark.config);
+            }
+            board.restoreState(benchmark.lockState);
+        }
+    }
+
+    /**
+     * Full piece-lock cycle: merge the brick, clear completed rows and spawn the next brick.
+     *
+     * @param state freshly restored lock state
+     * @return whether the spawned brick collided (game over)
+     */
+    @Benchmark
+    public boolean lockCycle(LockState state) {
+        BitBoard lockBoard = state.board;
+        lockBoard.mergeBrickToBackground();
+        lockBoard.clearRows();
+        return lockBoard.createNewBrick();
+    }
+}
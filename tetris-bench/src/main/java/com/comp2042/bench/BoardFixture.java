@@ -0,0 +1,77 @@
+package com.comp2042.bench;
+
+import com.comp2042.GameConfig;
+import com.comp2042.save.GameSaveData;
+import com.comp2042.util.GameConstants;
+
+import java.util.List;
+
+/**
+ * Deterministic board layouts used by the benchmarks.
+ * Each fixture fills the bottom rows of a board, the standard one unless a {@link GameConfig} is given,
+ * leaving column 0 open, so dropping a vertical I brick into that well completes (and clears) up to four rows.
+ */
+public enum BoardFixture {
+    /** No filled cells. */
+    EMPTY,
+    /** Roughly half of the rows filled. */
+    HALF_FULL,
+    /** Stack reaching just below the spawn area. */
+    NEAR_TOP_OUT;
+
+    /** Rotation index of the vertical I brick. */
+    public static final int VERTICAL_I_ROTATION = 1;
+    /** X offset that places the vertical I brick in column 0. */
+    public static final int WELL_OFFSET_X = -1;
+
+    /**
+     * Builds the board matrix for this fixture on the standard board.
+     *
+     * @return new board matrix indexed as {@code [row][column]}
+     */
+    public int[][] createMatrix() {
+        return createMatrix(GameConfig.standard());
+    }
+
+    /**
+     * Builds the board matrix for this fixture.
+     *
+     * @param config game configuration giving the board size
+     * @return new board matrix indexed as {@code [row][column]}
+     */
+    public int[][] createMatrix(GameConfig config) {
+        int height = config.getHeight();
+        int width = config.getWidth();
+        int filledRows = switch (this) {
+            case EMPTY -> 0;
+            case HALF_FULL -> height / 2;
+            case NEAR_TOP_OUT -> height - 3;
+        };
+        int[][] matrix = new int[height][width];
+        for (int row = height - filledRows; row < height; row++) {
+            for (int column = 1; column < width; column++) {
+                matrix[row][column] = GameConstants.COLOR_BRICK_1 + (row + column) % GameConstants.COLOR_BRICK_7;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Builds a save snapshot with this fixture and a vertical I brick resting at the bottom of the well.
+     *
+     * @param config game configuration giving the board size
+     * @return save data for {@link com.comp2042.SimpleBoard#restoreState(GameSaveData)}
+     */
+    public GameSaveData createLockState(GameConfig config) {
+        return GameSaveData.builder()
+                .displayName(name())
+                .fileSafeName(name())
+                .boardMatrix(createMatrix(config))
+                .currentOffset(WELL_OFFSET_X, config.getHeight() - 4)
+                .currentBrickType("IBrick")
+                .currentRotationIndex(VERTICAL_I_ROTATION)
+                .queuedBrickTypes(List.of("TBrick", "OBrick"))
+                .level(1)
+                .build();
+    }
+}
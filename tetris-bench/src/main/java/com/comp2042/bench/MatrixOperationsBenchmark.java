@@ -0,0 +1,91 @@
+package com.comp2042.bench;
+
+import com.comp2042.ClearRow;
+import com.comp2042.MatrixOperations;
+import com.comp2042.util.GameConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the static matrix helpers used by {@link com.comp2042.SimpleBoard}.
+ * Run with {@code -prof gc} to report bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    private static final int[][] T_BRICK = {
+            {0, 0, 0, 0},
+            {6, 6, 6, 0},
+            {0, 6, 0, 0},
+            {0, 0, 0, 0}
+    };
+
+    @Param
+    private BoardFixture fixture;
+
+    private int[][] matrix;
+
+    /**
+     * Builds the board for the selected fixture.
+     */
+    @Setup
+    public void setUp() {
+        matrix = fixture.createMatrix();
+    }
+
+    /**
+     * Collision check of a T brick at the spawn position.
+     *
+     * @return collision result
+     */
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, T_BRICK, GameConstants.INITIAL_BRICK_X, GameConstants.INITIAL_BRICK_Y);
+    }
+
+    /**
+     * Merge of a T brick at the spawn position into a copy of the board.
+     *
+     * @return merged matrix
+     */
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, T_BRICK, GameConstants.INITIAL_BRICK_X, GameConstants.INITIAL_BRICK_Y);
+    }
+
+    /**
+     * Full-row scan and compaction of the board.
+     *
+     * @return clear result
+     */
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    /**
+     * Deep copy of the board.
+     *
+     * @return copied matrix
+     */
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
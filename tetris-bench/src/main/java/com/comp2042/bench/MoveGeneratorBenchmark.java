@@ -0,0 +1,77 @@
+package com.comp2042.bench;
+
+import com.comp2042.GameConfig;
+import com.comp2042.ai.AiBoard;
+import com.comp2042.ai.MoveGenerator;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for one {@link MoveGenerator} search of every lock position of a T brick. The {@code locks}
+ * counter reports lock positions found per second. Run with {@code -prof gc} to confirm a search allocates
+ * nothing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGeneratorBenchmark {
+
+    @Param
+    private BoardFixture fixture;
+
+    private AiBoard board;
+    private MoveGenerator generator;
+    private RotationTable brick;
+
+    /**
+     * Lock positions found, reported as a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        /** Lock positions found in this iteration. */
+        public long locks;
+    }
+
+    /**
+     * Loads the fixture and picks a T brick.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        board = new AiBoard(GameConfig.standard());
+        board.load(fixture.createMatrix());
+        generator = new MoveGenerator(board);
+        brick = BrickFactory.createBrick("TBrick").getRotationTable();
+    }
+
+    /**
+     * One search from the spawn position.
+     *
+     * @param counters lock position counter
+     * @return number of lock positions
+     */
+    @Benchmark
+    public int generate(Counters counters) {
+        int locks = generator.generate(board, brick);
+        counters.locks += locks;
+        return locks;
+    }
+}
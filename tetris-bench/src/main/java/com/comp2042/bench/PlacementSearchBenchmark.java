@@ -0,0 +1,84 @@
+package com.comp2042.bench;
+
+import com.comp2042.GameConfig;
+import com.comp2042.ai.AiBoard;
+import com.comp2042.ai.PlacementSearch;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.sim.Placement;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for one {@link PlacementSearch} decision. The {@code placements} counter reports
+ * evaluated boards per second, the figure the AI player is budgeted by.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlacementSearchBenchmark {
+
+    @Param
+    private BoardFixture fixture;
+
+    @Param({"false", "true"})
+    private boolean useNextBrick;
+
+    private AiBoard board;
+    private PlacementSearch search;
+    private RotationTable current;
+    private RotationTable next;
+
+    /**
+     * Evaluated placements, reported as a rate.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Counters {
+        /** Boards evaluated in this iteration. */
+        public long placements;
+    }
+
+    /**
+     * Loads the fixture and picks a T brick followed by an L brick.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        board = new AiBoard(GameConfig.standard());
+        board.load(fixture.createMatrix());
+        search = new PlacementSearch(WeightedEvaluator.standard(), useNextBrick, board);
+        current = BrickFactory.createBrick("TBrick").getRotationTable();
+        next = BrickFactory.createBrick("LBrick").getRotationTable();
+    }
+
+    /**
+     * One placement decision.
+     *
+     * @param counters evaluated placement counter
+     * @return chosen placement
+     */
+    @Benchmark
+    public Placement findBest(Counters counters) {
+        long before = search.getEvaluatedPlacements();
+        Placement placement = search.findBest(board, current, next);
+        counters.placements += search.getEvaluatedPlacements() - before;
+        return placement;
+    }
+}
@@ -0,0 +1,140 @@
+package com.comp2042.bench;
+
+import com.comp2042.GameConfig;
+import com.comp2042.SimpleBoard;
+import com.comp2042.save.GameSaveData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link SimpleBoard} movement, landing row lookup and the piece-lock cycle, on the standard board and on
+ * larger {@link GameConfig} variants given as {@code WIDTHxHEIGHT}.
+ * Run with {@code -prof gc} to report bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleBoardBenchmark {
+
+    @Param
+    private BoardFixture fixture;
+
+    @Param({"10x25", "20x40", "64x256"})
+    private String boardSize;
+
+    private GameConfig config;
+    private SimpleBoard board;
+    private SimpleBoard dropBoard;
+    private GameSaveData lockState;
+
+    /**
+     * Creates the board and loads the selected fixture.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        String[] size = boardSize.split("x");
+        config = GameConfig.builder()
+                .width(Integer.parseInt(size[0]))
+                .height(Integer.parseInt(size[1]))
+                .build();
+        board = new SimpleBoard(config.getWidth(), config.getHeight());
+        lockState = fixture.createLockState(config);
+        board.restoreState(lockState);
+        dropBoard = new SimpleBoard(config.getWidth(), config.getHeight());
+        dropBoard.restoreState(lockState);
+        dropBoard.moveBrickTo(config.getSpawnX(), config.getSpawnY(), 0);
+    }
+
+    /**
+     * One gravity step. When the brick is blocked it is put back at the spawn position,
+     * which only writes the offset, so blocked steps are still measured as a single call.
+     *
+     * @return whether the brick moved
+     */
+    @Benchmark
+    public boolean moveBrickDown() {
+        boolean moved = board.moveBrickDown();
+        if (!moved) {
+            board.moveBrickTo(config.getSpawnX(), config.getSpawnY(), 0);
+        }
+        return moved;
+    }
+
+    /**
+     * Landing row of a brick at the spawn position, from the column tops and the brick's bottom profile,
+     * as computed for the ghost piece on every frame and for a hard drop.
+     *
+     * @return landing Y coordinate
+     */
+    @Benchmark
+    public int ghostY() {
+        return dropBoard.getGhostY();
+    }
+
+    /**
+     * Baseline for {@link #ghostY()}: finds the landing row by moving the brick down one row at a time from
+     * the spawn position until it is blocked, then puts it back.
+     *
+     * @return landing Y coordinate
+     */
+    @Benchmark
+    public int stepToLanding() {
+        while (dropBoard.moveBrickDown()) {
+            // keep stepping
+        }
+        int landingY = dropBoard.getBrickY();
+        dropBoard.moveBrickTo(config.getSpawnX(), config.getSpawnY(), 0);
+        return landingY;
+    }
+
+    /**
+     * State for the lock cycle, restored before every invocation because locking mutates the board.
+     */
+    @State(Scope.Thread)
+    public static class LockState {
+
+        private SimpleBoard board;
+
+        /**
+         * Restores the fixture with a vertical I brick resting in the well.
+         *
+         * @param benchmark enclosing benchmark state holding the fixture
+         */
+        @Setup(Level.Invocation)
+        public void setUp(SimpleBoardBenchmark benchmark) {
+            if (board == null) {
+                board = new SimpleBoard(benchmark.config.getWidth(), benchmark.config.getHeight());
+            }
+            board.restoreState(benchmark.lockState);
+        }
+    }
+
+    /**
+     * Full piece-lock cycle: merge the brick, clear completed rows and spawn the next brick.
+     *
+     * @param state freshly restored lock state
+     * @return whether the spawned brick collided (game over)
+     */
+    @Benchmark
+    public boolean lockCycle(LockState state) {
+        SimpleBoard lockBoard = state.board;
+        lockBoard.mergeBrickToBackground();
+        lockBoard.clearRows();
+        return lockBoard.createNewBrick();
+    }
+}
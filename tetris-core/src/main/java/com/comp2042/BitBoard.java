@@ -0,0 +1,442 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.save.GameSaveData;
+import com.comp2042.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bitboard implementation of the game board intended for headless simulation.
+ * Each row of the playfield is stored as a single {@code long} bitmask (bit {@code c} set when
+ * column {@code c} is occupied), so collision, merge and line-clear checks reduce to a few
+ * AND/OR/compare operations per brick row. Cell colours are kept in a parallel byte array
+ * that is only read when a renderer asks for the board matrix. It can stand in for {@link SimpleBoard}
+ * behind a {@link GameEngine}, e.g. in {@link com.comp2042.sim.GameSimulator}.
+ */
+public class BitBoard implements Board {
+
+    /** Maximum supported board width, limited by the number of bits in a row mask. */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    private final GameConfig config;
+    private final int width;
+    private final int height;
+    private final int spawnX;
+    private final int spawnY;
+    private final long fullRowMask;
+    private final long[] rows;
+    private final byte[][] colors;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+
+    private RotationTable rotationTable;
+    private long[] currentShapeRows;
+    private int[][] currentShape;
+    private int offsetX;
+    private int offsetY;
+
+    private int[][] matrixView;
+    private boolean matrixViewStale = true;
+    private final BitSet dirtyRows = new BitSet();
+
+    /**
+     * Constructor to initialize the bitboard.
+     *
+     * @param width number of columns (at most {@link #MAX_WIDTH})
+     * @param height number of rows
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int width, int height) {
+        this(GameConfig.builder().width(width).height(height).build());
+    }
+
+    /**
+     * Constructor to initialize a bitboard sized, spawning and dealing pieces as described by a game configuration,
+     * on a randomly seeded brick sequence and a detached score that never touches the stored high score.
+     *
+     * @param config game configuration
+     */
+    public BitBoard(GameConfig config) {
+        this(config, new RandomBrickGenerator(new SplittableRandom(), config.getPieces()), new Score(false));
+    }
+
+    /**
+     * Constructor to initialize a bitboard with an explicit brick source and score, e.g. a
+     * {@link com.comp2042.logic.bricks.SeededBrickGenerator} and a detached score for reproducible simulation.
+     * The brick generator should deal the configuration's piece set.
+     *
+     * @param config game configuration
+     * @param brickGenerator generator supplying the brick sequence
+     * @param score score tracker
+     */
+    public BitBoard(GameConfig config, BrickGenerator brickGenerator, Score score) {
+        this.config = config;
+        this.width = config.getWidth();
+        this.height = config.getHeight();
+        this.spawnX = config.getSpawnX();
+        this.spawnY = config.getSpawnY();
+        this.fullRowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+        this.rows = new long[height];
+        this.colors = new byte[height][width];
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        this.score = score;
+        dirtyRows.set(0, height);
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShapeIndex = brickRotator.getNextShapeIndex();
+        long[] nextShapeRows = rotationTable.getRowMasks(nextShapeIndex);
+        if (collides(nextShapeRows, offsetX, offsetY)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(nextShapeIndex);
+        currentShape = rotationTable.getShape(nextShapeIndex);
+        currentShapeRows = nextShapeRows;
+        return true;
+    }
+
+    /**
+     * A row collision test is a few mask operations, so the landing row is found by testing each row below
+     * the brick in turn.
+     */
+    @Override
+    public int getGhostY() {
+        int y = offsetY;
+        while (!collides(currentShapeRows, offsetX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = getGhostY();
+        int distance = landingY - offsetY;
+        offsetY = landingY;
+        return distance;
+    }
+
+    @Override
+    public boolean moveBrickTo(int x, int y, int rotation) {
+        long[] shapeRows = rotationTable.getRowMasks(rotation);
+        if (collides(shapeRows, x, y)) {
+            return false;
+        }
+        setRotation(rotation);
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        setBrick(brickGenerator.getBrick());
+        offsetX = spawnX;
+        offsetY = spawnY;
+
+        // Game over only if the brick overlaps at the spawn position (top of board)
+        return collides(currentShapeRows, offsetX, offsetY);
+    }
+
+    /**
+     * Gets the board matrix built from the colour array.
+     * The returned matrix is a cached view that is rebuilt only after the board changes,
+     * so callers must treat it as read-only.
+     *
+     * @return two-dimensional array representing the board state
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        if (matrixView == null) {
+            matrixView = new int[height][width];
+        }
+        if (matrixViewStale) {
+            for (int row = 0; row < height; row++) {
+                byte[] colorRow = colors[row];
+                int[] viewRow = matrixView[row];
+                for (int column = 0; column < width; column++) {
+                    viewRow[column] = colorRow[column];
+                }
+            }
+            matrixViewStale = false;
+        }
+        return matrixView;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(currentShape, offsetX, offsetY, getGhostY(), brickGenerator.getNextBrick().getRotationTable().getShape(0));
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        for (int r = 0; r < currentShapeRows.length; r++) {
+            long bits = currentShapeRows[r];
+            if (bits == 0) {
+                continue;
+            }
+            int row = offsetY + r;
+            rows[row] |= shift(bits, offsetX);
+            dirtyRows.set(row);
+            int[] shapeRow = currentShape[r];
+            for (int c = 0; c < shapeRow.length; c++) {
+                if (shapeRow[c] != GameConstants.COLOR_EMPTY) {
+                    colors[row][offsetX + c] = (byte) shapeRow[c];
+                }
+            }
+        }
+        matrixViewStale = true;
+    }
+
+    @Override
+    public ClearRow clearRows() {
+        int linesRemoved = 0;
+        int write = height - 1;
+        // Compact surviving rows towards the bottom, recycling the colour arrays of cleared rows
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] == fullRowMask) {
+                if (linesRemoved == 0) {
+                    // Every row from the top down to the lowest cleared row shifts
+                    dirtyRows.set(0, read + 1);
+                }
+                linesRemoved++;
+                continue;
+            }
+            if (write != read) {
+                rows[write] = rows[read];
+                byte[] swap = colors[write];
+                colors[write] = colors[read];
+                colors[read] = swap;
+            }
+            write--;
+        }
+        for (int row = write; row >= 0; row--) {
+            rows[row] = 0L;
+            Arrays.fill(colors[row], (byte) GameConstants.COLOR_EMPTY);
+        }
+        if (linesRemoved > 0) {
+            matrixViewStale = true;
+        }
+
+        // Calculate score bonus: 50 * (lines removed)^2
+        int scoreBonus = GameConstants.BASE_SCORE_PER_LINE * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, getBoardMatrix(), scoreBonus);
+    }
+
+    @Override
+    public void collectDirtyRows(BitSet dirtyRows) {
+        dirtyRows.or(this.dirtyRows);
+        this.dirtyRows.clear();
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0L);
+        for (byte[] colorRow : colors) {
+            Arrays.fill(colorRow, (byte) GameConstants.COLOR_EMPTY);
+        }
+        matrixViewStale = true;
+        dirtyRows.set(0, height);
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public int getBrickX() {
+        return offsetX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return offsetY;
+    }
+
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public RotationTable getCurrentRotationTable() {
+        return rotationTable;
+    }
+
+    @Override
+    public RotationTable getNextRotationTable() {
+        return brickGenerator.getNextBrick().getRotationTable();
+    }
+
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    @Override
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public RotationTable getPreviewRotationTable(int ahead) {
+        Brick brick = brickGenerator.peekBrick(ahead);
+        return brick == null ? null : brick.getRotationTable();
+    }
+
+    @Override
+    public GameSaveData captureState(String displayName, String fileSafeName) {
+        List<String> queuedTypes = brickGenerator.exportQueuedBrickTypes();
+        return GameSaveData.builder()
+                .displayName(displayName)
+                .fileSafeName(fileSafeName)
+                .savedAt(System.currentTimeMillis())
+                .boardMatrix(MatrixOperations.copy(getBoardMatrix()))
+                .currentOffset(offsetX, offsetY)
+                .currentBrickType(BrickFactory.getTypeName(brickRotator.getCurrentBrick()))
+                .currentRotationIndex(brickRotator.getCurrentShapeIndex())
+                .queuedBrickTypes(queuedTypes)
+                .scoreValue(score.getValue())
+                .linesCleared(score.getLinesCleared())
+                .level(score.getLevel())
+                .highScoreValue(score.getHighScore())
+                .build();
+    }
+
+    /**
+     * Rebuilds the row masks and colours from the saved matrix; cells outside the board are ignored.
+     */
+    @Override
+    public void restoreState(GameSaveData saveData) {
+        int[][] savedRows = saveData.getBoardMatrix();
+        for (int row = 0; row < height; row++) {
+            long bits = 0L;
+            byte[] colorRow = colors[row];
+            Arrays.fill(colorRow, (byte) GameConstants.COLOR_EMPTY);
+            if (row < savedRows.length) {
+                for (int column = 0; column < Math.min(width, savedRows[row].length); column++) {
+                    int cell = savedRows[row][column];
+                    if (cell != GameConstants.COLOR_EMPTY) {
+                        colorRow[column] = (byte) cell;
+                        bits |= 1L << column;
+                    }
+                }
+            }
+            rows[row] = bits;
+        }
+        matrixViewStale = true;
+        dirtyRows.set(0, height);
+        setBrick(BrickFactory.createBrick(saveData.getCurrentBrickType()));
+        setRotation(saveData.getCurrentRotationIndex());
+        offsetX = saveData.getCurrentOffsetX();
+        offsetY = saveData.getCurrentOffsetY();
+        brickGenerator.importQueuedBrickTypes(saveData.getQueuedBrickTypes());
+        score.applyState(
+                saveData.getScoreValue(),
+                saveData.getLinesCleared(),
+                saveData.getLevel(),
+                saveData.getHighScoreValue());
+    }
+
+    /**
+     * Gets the occupancy bitmask of a row.
+     *
+     * @param row row index
+     * @return bitmask with bit {@code c} set when column {@code c} is filled
+     */
+    public long getRowMask(int row) {
+        return rows[row];
+    }
+
+    private void setBrick(Brick brick) {
+        brickRotator.setBrick(brick);
+        rotationTable = brick.getRotationTable();
+        setRotation(0);
+    }
+
+    private void setRotation(int rotation) {
+        brickRotator.setCurrentShape(rotation);
+        currentShape = rotationTable.getShape(rotation);
+        currentShapeRows = rotationTable.getRowMasks(rotation);
+    }
+
+    private boolean tryMove(int dx, int dy) {
+        int targetX = offsetX + dx;
+        int targetY = offsetY + dy;
+        if (collides(currentShapeRows, targetX, targetY)) {
+            return false;
+        }
+        offsetX = targetX;
+        offsetY = targetY;
+        return true;
+    }
+
+    /**
+     * Checks whether the given brick rows collide with the walls, floor or filled cells.
+     *
+     * @param shapeRows brick row masks
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @return true if collision occurs, false otherwise
+     */
+    private boolean collides(long[] shapeRows, int x, int y) {
+        for (int r = 0; r < shapeRows.length; r++) {
+            long bits = shapeRows[r];
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= height || !fitsHorizontally(bits, x)) {
+                return true;
+            }
+            if ((rows[row] & shift(bits, x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean fitsHorizontally(long bits, int x) {
+        if (x < 0) {
+            return x > -Long.SIZE && (bits & ((1L << -x) - 1)) == 0;
+        }
+        if (x >= width) {
+            return false;
+        }
+        long placed = bits << x;
+        return (placed >>> x) == bits && (placed & ~fullRowMask) == 0;
+    }
+
+    private static long shift(long bits, int x) {
+        return x >= 0 ? bits << x : bits >>> -x;
+    }
+}
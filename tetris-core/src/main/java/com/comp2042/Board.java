@@ -0,0 +1,193 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.save.GameSaveData;
+
+import java.util.BitSet;
+
+/**
+ * Interface representing the game board functionality.
+ * Defines core operations for brick movement, rotation, and game state management.
+ */
+public interface Board {
+
+    /**
+     * Moves the current brick down by one unit.
+     *
+     * @return true if the brick was moved successfully, false if blocked
+     */
+    boolean moveBrickDown();
+
+    /**
+     * Moves the current brick left by one unit.
+     *
+     * @return true if the brick was moved successfully, false if blocked
+     */
+    boolean moveBrickLeft();
+
+    /**
+     * Moves the current brick right by one unit.
+     *
+     * @return true if the brick was moved successfully, false if blocked
+     */
+    boolean moveBrickRight();
+
+    /**
+     * Rotates the current brick to the left (counter-clockwise).
+     *
+     * @return true if the rotation was successful, false if blocked
+     */
+    boolean rotateLeftBrick();
+
+    /**
+     * Gets the row the current brick would land on if dropped straight down from where it is,
+     * as shown by the ghost piece.
+     *
+     * @return Y coordinate of the landing position
+     */
+    int getGhostY();
+
+    /**
+     * Moves the current brick straight down to its landing position in one step. The brick is not locked.
+     *
+     * @return number of rows the brick moved
+     */
+    int hardDropBrick();
+
+    /**
+     * Moves the current brick directly to the given position and rotation if that placement is free.
+     *
+     * @param x target X coordinate
+     * @param y target Y coordinate
+     * @param rotation target rotation index
+     * @return true if the brick was placed, false if the target collides
+     */
+    boolean moveBrickTo(int x, int y, int rotation);
+
+    /**
+     * Creates a new brick at the top of the board.
+     *
+     * @return true if a new brick was created successfully, false if game over
+     */
+    boolean createNewBrick();
+
+    /**
+     * Gets the current game board matrix.
+     *
+     * @return two-dimensional array representing the board state
+     */
+    int[][] getBoardMatrix();
+
+    /**
+     * Gets the current view data including brick position and shape.
+     *
+     * @return view data object
+     */
+    ViewData getViewData();
+
+    /**
+     * Merges the current falling brick into the background board.
+     */
+    void mergeBrickToBackground();
+
+    /**
+     * Clears completed rows from the board.
+     *
+     * @return clear row information including number of rows cleared and score bonus
+     */
+    ClearRow clearRows();
+
+    /**
+     * Adds the indexes of the board rows that changed since the previous call to the given set,
+     * then forgets them. Renderers use this to repaint only the rows touched by a lock or line clear.
+     *
+     * @param dirtyRows set that receives the changed row indexes
+     */
+    void collectDirtyRows(BitSet dirtyRows);
+
+    /**
+     * Gets the score management object.
+     *
+     * @return score object
+     */
+    Score getScore();
+
+    /**
+     * Resets the game to initial state.
+     */
+    void newGame();
+
+    /**
+     * Gets the X coordinate of the current brick.
+     *
+     * @return brick X offset
+     */
+    int getBrickX();
+
+    /**
+     * Gets the Y coordinate of the current brick.
+     *
+     * @return brick Y offset
+     */
+    int getBrickY();
+
+    /**
+     * Gets the rotation index of the current brick.
+     *
+     * @return rotation index
+     */
+    int getBrickRotation();
+
+    /**
+     * Gets the rotation table of the current brick.
+     *
+     * @return rotation table
+     */
+    RotationTable getCurrentRotationTable();
+
+    /**
+     * Gets the rotation table of the next brick in the queue.
+     *
+     * @return rotation table
+     */
+    RotationTable getNextRotationTable();
+
+    /**
+     * Gets the generator supplying this board's bricks.
+     *
+     * @return brick generator
+     */
+    BrickGenerator getBrickGenerator();
+
+    /**
+     * Gets the configuration this board was sized from.
+     *
+     * @return game configuration
+     */
+    GameConfig getConfig();
+
+    /**
+     * Gets the rotation table of a brick further down the preview queue.
+     *
+     * @param ahead zero-based position in the queue; 0 is the next brick
+     * @return rotation table, or null if the generator cannot see that far
+     */
+    RotationTable getPreviewRotationTable(int ahead);
+
+    /**
+     * Captures the current game state for persistence.
+     *
+     * @param displayName user provided save name
+     * @param fileSafeName sanitized file name
+     * @return save data snapshot
+     */
+    GameSaveData captureState(String displayName, String fileSafeName);
+
+    /**
+     * Restores the board state from persisted data.
+     *
+     * @param saveData saved state
+     */
+    void restoreState(GameSaveData saveData);
+}
@@ -1,6 +1,7 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RotationTable;
 
 /**
  * Brick rotator class responsible for managing brick rotation state.
@@ -17,17 +18,46 @@ public class BrickRotator {
      * @return next shape information
      */
     public NextShapeInfo getNextShape() {
-        int nextShapeIndex = (currentShape + 1) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShapeIndex), nextShapeIndex);
+        int nextShapeIndex = getNextShapeIndex();
+        return new NextShapeInfo(getShape(nextShapeIndex), nextShapeIndex);
     }
 
     /**
-     * Gets the current shape matrix.
+     * Gets the rotation index that {@link #getNextShape()} would move to,
+     * without building a {@link NextShapeInfo}.
+     *
+     * @return next rotation index
+     */
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % brick.getRotationTable().getRotationCount();
+    }
+
+    /**
+     * Gets the shared shape matrix for the given rotation index.
+     *
+     * @param shapeIndex rotation index
+     * @return shape as a two-dimensional array (read-only)
+     */
+    public int[][] getShape(int shapeIndex) {
+        return brick.getRotationTable().getShape(shapeIndex);
+    }
+
+    /**
+     * Gets the shared shape matrix of the current rotation.
      * 
-     * @return current shape as a two-dimensional array
+     * @return current shape as a two-dimensional array (read-only)
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return getShape(currentShape);
+    }
+
+    /**
+     * Gets the rotation table of the active brick.
+     *
+     * @return rotation table
+     */
+    public RotationTable getRotationTable() {
+        return brick.getRotationTable();
     }
 
     /**
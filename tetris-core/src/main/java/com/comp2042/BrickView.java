@@ -0,0 +1,44 @@
+package com.comp2042;
+
+/**
+ * Read-only view of the falling brick and the next brick preview, as drawn by a renderer.
+ * Shape matrices are the shared rotation arrays of {@link com.comp2042.logic.bricks.RotationTable},
+ * not copies, so they must never be modified.
+ */
+public interface BrickView {
+
+    /**
+     * Gets the current brick shape.
+     *
+     * @return shared brick shape matrix (read-only)
+     */
+    int[][] getBrickData();
+
+    /**
+     * Gets the current brick X position.
+     *
+     * @return X coordinate
+     */
+    int getxPosition();
+
+    /**
+     * Gets the current brick Y position.
+     *
+     * @return Y coordinate
+     */
+    int getyPosition();
+
+    /**
+     * Gets the Y position the current brick would land on, where the ghost piece is drawn.
+     *
+     * @return landing Y coordinate
+     */
+    int getGhostY();
+
+    /**
+     * Gets the next brick shape for the preview.
+     *
+     * @return shared next brick shape matrix (read-only)
+     */
+    int[][] getNextBrickData();
+}
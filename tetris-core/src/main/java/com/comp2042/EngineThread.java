@@ -0,0 +1,317 @@
+package com.comp2042;
+
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.util.GameConstants;
+import com.comp2042.util.SpscRing;
+import com.comp2042.util.TripleBuffer;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a {@link GameEngine} on its own thread so the simulation never waits for the UI.
+ *
+ * <p>The engine is only ever touched by the engine thread. The UI thread records key presses and
+ * releases into an {@link InputRing}, sends other commands through a bounded single-producer/single-consumer
+ * ring, and reads back {@link GameFrame} snapshots through a {@link TripleBuffer}; no direction takes a lock,
+ * so dialogs, layout passes or garbage collection on the UI thread cannot delay gravity or input handling.
+ * Key events are drained in one batch per loop pass and turned into moves, including autorepeat of held
+ * keys, by {@link KeyRepeat}. Gravity is driven by a {@link FixedStepLoop}. While a {@link Replay} is
+ * playing, key input is ignored and each tick plays the recorded moves instead.
+ *
+ * <p>{@link #submit(Command)}, {@link #recordInput(EventType, boolean)}, {@link #setPaused(boolean)} and
+ * {@link #acquireFrame()} must all be called from the same (UI) thread.
+ */
+public final class EngineThread {
+
+    /**
+     * Work to run against the engine on the engine thread.
+     */
+    @FunctionalInterface
+    public interface Command {
+
+        /**
+         * Applies the command.
+         *
+         * @param engine engine owned by the engine thread
+         */
+        void execute(GameEngine engine);
+    }
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.TICK_MS);
+    private static final long STOP_TIMEOUT_MS = 1000;
+
+    private final GameEngine engine;
+    private final SpscRing<Command> commands = new SpscRing<>(GameConstants.INPUT_QUEUE_CAPACITY);
+    private final InputRing inputs = new InputRing(GameConstants.INPUT_QUEUE_CAPACITY);
+    private final TripleBuffer<GameFrame> frames;
+    private final FixedStepLoop stepLoop;
+    private final Thread thread;
+    private volatile boolean running;
+
+    // Producer (UI thread) state
+    private long submittedCommands;
+
+    // Engine thread state
+    private final BitSet dirtyRows = new BitSet();
+    private final long[] rowVersions;
+    private final KeyRepeat keyRepeat;
+    private final InputRing.Handler inputHandler = this::onInput;
+    private ReplayPlayer replayPlayer;
+    private int replaySpeed;
+    private long frameSequence;
+    private long appliedCommands;
+    private int clearCount;
+    private int lastScoreBonus;
+    private int lastLinesCleared;
+    private int lastScore;
+    private boolean paused;
+    private boolean changed;
+
+    /**
+     * Constructor to wrap an engine and publish its first frame. The thread is not started yet.
+     *
+     * @param engine engine to run; must not be used by any other thread afterwards
+     */
+    public EngineThread(GameEngine engine) {
+        this.engine = engine;
+        int[][] matrix = engine.getBoard().getBoardMatrix();
+        this.rowVersions = new long[matrix.length];
+        this.frames = new TripleBuffer<>(() -> new GameFrame(matrix.length, matrix[0].length));
+        this.stepLoop = new FixedStepLoop(GameConstants.TICK_MS, GameConstants.MAX_CATCH_UP_TICKS, this::tick);
+        this.keyRepeat = new KeyRepeat(engine);
+        this.thread = new Thread(this::run, "game-engine");
+        thread.setDaemon(true);
+        publishFrame();
+    }
+
+    /**
+     * Starts the engine thread.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops the engine thread after the command it is running, waiting briefly for it to finish.
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(STOP_TIMEOUT_MS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records a key press or release, timestamped now. Presses are dropped if the input ring is full;
+     * releases wait for space so a key is never left held.
+     *
+     * @param action key action
+     * @param pressed true for a press, false for a release
+     * @return true if the event was recorded
+     */
+    public boolean recordInput(EventType action, boolean pressed) {
+        while (!inputs.record(action, pressed, System.nanoTime())) {
+            if (pressed) {
+                return false;
+            }
+            LockSupport.unpark(thread);
+            Thread.onSpinWait();
+        }
+        LockSupport.unpark(thread);
+        return true;
+    }
+
+    /**
+     * Queues a command, waiting for space if the queue is full. Commands run in submission order.
+     *
+     * @param command command to run on the engine thread
+     */
+    public void submit(Command command) {
+        while (!offer(command)) {
+            LockSupport.unpark(thread);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Pauses or resumes gravity. Key presses recorded while paused are ignored.
+     *
+     * @param paused true to pause
+     */
+    public void setPaused(boolean paused) {
+        submit(ignored -> applyPause(paused));
+    }
+
+    /**
+     * Restarts the game on a replay's seed and plays the replay back on the engine thread. Player input is
+     * ignored until the replay ends, after which the game continues under player control.
+     *
+     * @param replay replay to play
+     * @param speed ticks played per real tick; 1 plays at the recorded pace
+     */
+    public void playReplay(Replay replay, int speed) {
+        submit(ignored -> startReplay(replay, speed));
+    }
+
+    /**
+     * Stops a replay in progress, leaving the game where it is.
+     */
+    public void cancelReplay() {
+        submit(ignored -> replayPlayer = null);
+    }
+
+    /**
+     * Gets the latest published frame. The frame is not modified until the next call.
+     *
+     * @return latest frame
+     */
+    public GameFrame acquireFrame() {
+        return frames.acquire();
+    }
+
+    /**
+     * Gets the number of commands queued so far. Once a frame's {@link GameFrame#getAppliedCommands()}
+     * reaches this value, the frame reflects every command queued before the call.
+     *
+     * @return queued command count
+     */
+    public long getSubmittedCommands() {
+        return submittedCommands;
+    }
+
+    private boolean offer(Command command) {
+        if (!commands.offer(command)) {
+            return false;
+        }
+        submittedCommands++;
+        LockSupport.unpark(thread);
+        return true;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                runPass();
+            } catch (RuntimeException exception) {
+                // Keep the thread alive, like a failed command: drop held keys and any replay, then carry on
+                System.err.println("Engine loop failed: " + exception);
+                keyRepeat.releaseAll();
+                replayPlayer = null;
+                stepLoop.reset();
+                changed = true;
+            }
+            // Input unparks the thread, so moves are applied without waiting for the next tick
+            if (paused) {
+                LockSupport.park(this);
+            } else {
+                LockSupport.parkNanos(this, TICK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Applies queued commands and input, runs the elapsed ticks and publishes a frame if anything changed.
+     */
+    private void runPass() {
+        Command command;
+        while ((command = commands.poll()) != null) {
+            try {
+                command.execute(engine);
+            } catch (RuntimeException exception) {
+                System.err.println("Engine command failed: " + exception);
+            }
+            appliedCommands++;
+            changed = true;
+            // A new game or load changes the score without a clear
+            syncScore();
+        }
+        inputs.drain(inputHandler);
+        if (!paused) {
+            long now = System.nanoTime();
+            if (replayPlayer == null) {
+                changed |= keyRepeat.update(now);
+            }
+            stepLoop.advance(now);
+        }
+        if (changed) {
+            publishFrame();
+        }
+    }
+
+    private void tick() {
+        if (replayPlayer != null) {
+            for (int i = 0; i < replaySpeed && replayPlayer.advanceTick(); i++) {
+                changed = true;
+            }
+            if (replayPlayer.isFinished()) {
+                replayPlayer = null;
+            }
+        } else if (engine.onTick() != null) {
+            changed = true;
+        }
+    }
+
+    private void startReplay(Replay replay, int speed) {
+        keyRepeat.releaseAll();
+        stepLoop.reset();
+        replayPlayer = new ReplayPlayer(replay, engine);
+        replaySpeed = Math.max(1, speed);
+    }
+
+    private void onInput(EventType action, boolean pressed, long timestampNanos) {
+        if (paused || replayPlayer != null) {
+            return;
+        }
+        changed |= keyRepeat.onInput(action, pressed, timestampNanos);
+    }
+
+    private void applyPause(boolean pause) {
+        if (paused && !pause) {
+            // Do not replay the time spent paused as gravity
+            stepLoop.reset();
+        } else if (pause) {
+            // Releases may be missed while paused, so start again with no keys held
+            keyRepeat.releaseAll();
+        }
+        paused = pause;
+    }
+
+    /**
+     * Counts a new clear when the line total grows; its bonus is the score gained since the last frame.
+     */
+    private void detectClears() {
+        Score score = engine.getBoard().getScore();
+        if (score.getLinesCleared() > lastLinesCleared) {
+            clearCount++;
+            lastScoreBonus = score.getValue() - lastScore;
+        }
+        syncScore();
+    }
+
+    private void syncScore() {
+        Score score = engine.getBoard().getScore();
+        lastLinesCleared = score.getLinesCleared();
+        lastScore = score.getValue();
+    }
+
+    private void publishFrame() {
+        changed = false;
+        frameSequence++;
+        detectClears();
+        engine.getBoard().collectDirtyRows(dirtyRows);
+        for (int i = dirtyRows.nextSetBit(0); i >= 0 && i < rowVersions.length; i = dirtyRows.nextSetBit(i + 1)) {
+            rowVersions[i] = frameSequence;
+        }
+        dirtyRows.clear();
+        frames.writeSlot().fill(frameSequence, engine.getBoard().getBoardMatrix(), rowVersions, engine,
+                clearCount, lastScoreBonus, appliedCommands);
+        frames.publish();
+    }
+}
@@ -8,5 +8,7 @@ public enum EventSource {
     /** Event initiated by user input (keyboard). */
     USER,
     /** Event generated by the game thread (automatic movement). */
-    THREAD
+    THREAD,
+    /** Event generated by the AI player. */
+    AI
 }
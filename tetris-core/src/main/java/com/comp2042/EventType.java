@@ -12,5 +12,7 @@ public enum EventType {
     /** Move brick right. */
     RIGHT,
     /** Rotate brick. */
-    ROTATE
+    ROTATE,
+    /** Drop brick to its landing position and lock it. */
+    HARD_DROP
 }
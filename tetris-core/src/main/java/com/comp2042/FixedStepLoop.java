@@ -0,0 +1,81 @@
+package com.comp2042;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed-timestep driver for the game simulation.
+ * Elapsed wall-clock time is accumulated from {@link System#nanoTime()} timestamps and consumed in
+ * whole ticks of exactly the same length, so gravity and other timed rules behave identically
+ * whether frames arrive at 30 Hz, 144 Hz or irregularly under UI load. Headless callers can skip the
+ * clock altogether with {@link #advanceTicks(int)} to run faster than real time.
+ */
+public final class FixedStepLoop {
+
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    private final Runnable tickAction;
+
+    private long lastTimestamp;
+    private long accumulatedNanos;
+    private boolean started;
+
+    /**
+     * Constructor to create a loop.
+     *
+     * @param tickMillis length of one tick in milliseconds
+     * @param maxCatchUpTicks maximum ticks run by one {@link #advance(long)} call; older backlog is dropped
+     * @param tickAction logic to run once per tick
+     */
+    public FixedStepLoop(int tickMillis, int maxCatchUpTicks, Runnable tickAction) {
+        if (tickMillis <= 0 || maxCatchUpTicks <= 0) {
+            throw new IllegalArgumentException("Tick length and catch-up limit must be positive");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.tickAction = tickAction;
+    }
+
+    /**
+     * Runs every whole tick that has elapsed up to the given timestamp.
+     * The first call after construction or {@link #reset()} only records the timestamp.
+     *
+     * @param nowNanos current {@link System#nanoTime()} value
+     * @return number of ticks run
+     */
+    public int advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            lastTimestamp = nowNanos;
+            return 0;
+        }
+        accumulatedNanos += Math.max(0, nowNanos - lastTimestamp);
+        lastTimestamp = nowNanos;
+        int ticks = (int) Math.min(accumulatedNanos / tickNanos, maxCatchUpTicks);
+        if (ticks == maxCatchUpTicks) {
+            // After a long stall, catch up a bounded amount instead of freezing the caller
+            accumulatedNanos = Math.min(accumulatedNanos, ticks * tickNanos);
+        }
+        accumulatedNanos -= ticks * tickNanos;
+        advanceTicks(ticks);
+        return ticks;
+    }
+
+    /**
+     * Runs the given number of ticks immediately, without consulting the clock.
+     *
+     * @param ticks number of ticks to run
+     */
+    public void advanceTicks(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tickAction.run();
+        }
+    }
+
+    /**
+     * Forgets accumulated time, e.g. when resuming from pause, so the paused period is not replayed.
+     */
+    public void reset() {
+        started = false;
+        accumulatedNanos = 0;
+    }
+}
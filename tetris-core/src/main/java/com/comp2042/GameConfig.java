@@ -0,0 +1,291 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.util.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runtime description of a game variant: board width and height, the hidden buffer rows at the top of
+ * the board, the spawn point of new bricks and the active piece set. Boards, engines, simulators and
+ * replays are sized from it, so variants from 10x20 up to {@value #MAX_WIDTH}x{@value #MAX_HEIGHT}
+ * run without recompiling. Instances are immutable and validated when built.
+ */
+public final class GameConfig {
+
+    /** Smallest supported board width. */
+    public static final int MIN_WIDTH = 4;
+    /** Largest supported board width, limited by the {@code long} row masks of the bitboards. */
+    public static final int MAX_WIDTH = Long.SIZE;
+    /** Smallest supported board height. */
+    public static final int MIN_HEIGHT = 4;
+    /** Largest supported board height. */
+    public static final int MAX_HEIGHT = 256;
+
+    private static final int BRICK_BOX_SIZE = 4;
+    private static final GameConfig STANDARD = builder().build();
+
+    private final int width;
+    private final int height;
+    private final int hiddenRows;
+    private final int spawnX;
+    private final int spawnY;
+    private final List<String> pieceTypes;
+    private final List<Brick> pieces;
+
+    private GameConfig(Builder builder, int spawnX, List<Brick> pieces) {
+        this.width = builder.width;
+        this.height = builder.height;
+        this.hiddenRows = builder.hiddenRows;
+        this.spawnX = spawnX;
+        this.spawnY = builder.spawnY;
+        this.pieceTypes = List.copyOf(builder.pieceTypes);
+        this.pieces = List.copyOf(pieces);
+    }
+
+    /**
+     * Gets the standard game: a {@link GameConstants#BOARD_WIDTH} by {@link GameConstants#BOARD_HEIGHT} board
+     * with {@link GameConstants#HIDDEN_ROWS} hidden rows, spawning at the usual point and dealing the seven
+     * standard bricks.
+     *
+     * @return standard configuration
+     */
+    public static GameConfig standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Creates a new builder instance, preset to the standard game.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder preset to this configuration, e.g. to derive a variant.
+     *
+     * @return builder instance
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .width(width)
+                .height(height)
+                .hiddenRows(hiddenRows)
+                .spawn(spawnX, spawnY)
+                .pieces(pieceTypes);
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows, including the hidden rows.
+     *
+     * @return board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of rows at the top of the board that bricks spawn into but that are not displayed.
+     *
+     * @return hidden row count
+     */
+    public int getHiddenRows() {
+        return hiddenRows;
+    }
+
+    /**
+     * Gets the X coordinate new bricks spawn at.
+     *
+     * @return spawn column
+     */
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    /**
+     * Gets the Y coordinate new bricks spawn at.
+     *
+     * @return spawn row
+     */
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    /**
+     * Gets the simple type names of the active pieces, in the order that defines seeded brick sequences.
+     *
+     * @return unmodifiable list of type names
+     */
+    public List<String> getPieceTypes() {
+        return pieceTypes;
+    }
+
+    /**
+     * Gets shared instances of the active pieces, in the same order as {@link #getPieceTypes()}.
+     *
+     * @return unmodifiable list of bricks
+     */
+    public List<Brick> getPieces() {
+        return pieces;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameConfig config)) {
+            return false;
+        }
+        return width == config.width && height == config.height && hiddenRows == config.hiddenRows
+                && spawnX == config.spawnX && spawnY == config.spawnY && pieceTypes.equals(config.pieceTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(new int[]{width, height, hiddenRows, spawnX, spawnY});
+        return 31 * result + pieceTypes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + " (" + hiddenRows + " hidden), spawn " + spawnX + "," + spawnY
+                + ", pieces " + pieceTypes;
+    }
+
+    /**
+     * Builder for {@link GameConfig}.
+     */
+    public static final class Builder {
+        private int width = GameConstants.BOARD_WIDTH;
+        private int height = GameConstants.BOARD_HEIGHT;
+        private int hiddenRows = GameConstants.HIDDEN_ROWS;
+        private int spawnX;
+        private int spawnY = GameConstants.INITIAL_BRICK_Y;
+        private boolean spawnXSet;
+        private List<String> pieceTypes = new ArrayList<>();
+
+        private Builder() {
+            for (Brick brick : BrickFactory.standardBricks()) {
+                pieceTypes.add(BrickFactory.getTypeName(brick));
+            }
+        }
+
+        /**
+         * Sets the number of columns.
+         *
+         * @param columns board width
+         * @return this builder
+         */
+        public Builder width(int columns) {
+            this.width = columns;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows, including the hidden rows.
+         *
+         * @param rows board height
+         * @return this builder
+         */
+        public Builder height(int rows) {
+            this.height = rows;
+            return this;
+        }
+
+        /**
+         * Sets the number of rows at the top of the board that are not displayed.
+         *
+         * @param rows hidden row count
+         * @return this builder
+         */
+        public Builder hiddenRows(int rows) {
+            this.hiddenRows = rows;
+            return this;
+        }
+
+        /**
+         * Sets the spawn point of new bricks. Without it, bricks spawn at {@link GameConstants#INITIAL_BRICK_Y}
+         * in the middle column, moved left where needed so a four-wide brick box fits; on the standard board
+         * that is {@link GameConstants#INITIAL_BRICK_X}.
+         *
+         * @param x spawn column
+         * @param y spawn row
+         * @return this builder
+         */
+        public Builder spawn(int x, int y) {
+            this.spawnX = x;
+            this.spawnY = y;
+            this.spawnXSet = true;
+            return this;
+        }
+
+        /**
+         * Sets the active piece set.
+         *
+         * @param typeNames simple brick type names known to {@link BrickFactory}
+         * @return this builder
+         */
+        public Builder pieces(List<String> typeNames) {
+            this.pieceTypes = new ArrayList<>(typeNames);
+            return this;
+        }
+
+        /**
+         * Sets the active piece set.
+         *
+         * @param typeNames simple brick type names known to {@link BrickFactory}
+         * @return this builder
+         */
+        public Builder pieces(String... typeNames) {
+            return pieces(Arrays.asList(typeNames));
+        }
+
+        /**
+         * Builds the configuration.
+         *
+         * @return game configuration
+         * @throws IllegalArgumentException if the board size, hidden rows, spawn point or piece set is not
+         *         supported, or a piece does not fit the board at the spawn point
+         */
+        public GameConfig build() {
+            if (width < MIN_WIDTH || width > MAX_WIDTH || height < MIN_HEIGHT || height > MAX_HEIGHT) {
+                throw new IllegalArgumentException("Unsupported board size: " + width + "x" + height);
+            }
+            if (hiddenRows < 0 || hiddenRows >= height) {
+                throw new IllegalArgumentException("Unsupported hidden row count: " + hiddenRows);
+            }
+            if (pieceTypes.isEmpty()) {
+                throw new IllegalArgumentException("Piece set must not be empty");
+            }
+            int x = spawnXSet ? spawnX : Math.min((width - 1) / 2, width - BRICK_BOX_SIZE);
+            List<Brick> pieces = new ArrayList<>();
+            for (String type : pieceTypes) {
+                Brick brick = BrickFactory.createBrick(type);
+                RotationTable rotations = brick.getRotationTable();
+                if (x + rotations.getMinColumn(0) < 0 || x + rotations.getMaxColumn(0) >= width
+                        || spawnY + rotations.getMinRow(0) < 0 || spawnY + rotations.getMaxRow(0) >= height) {
+                    throw new IllegalArgumentException(type + " does not fit the board at spawn point "
+                            + x + "," + spawnY);
+                }
+                pieces.add(brick);
+            }
+            return new GameConfig(this, x, pieces);
+        }
+    }
+}
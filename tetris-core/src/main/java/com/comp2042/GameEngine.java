@@ -0,0 +1,404 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.save.GameSaveData;
+import com.comp2042.save.GameSaveManager;
+import com.comp2042.save.GameSaveMetadata;
+import com.comp2042.util.GameConstants;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Headless game engine that applies the game rules to a {@link Board}, normally a {@link SimpleBoard}.
+ * Handles brick movement, locking, line clearing, scoring, game over detection and
+ * persistence without any dependency on a UI toolkit, so it can run in batch jobs
+ * and server processes as well as behind the JavaFX interface.
+ *
+ * <p>When the board draws from a {@link SeededBrickGenerator}, every game is recorded as its seed plus the
+ * player moves received through {@link InputEventListener} and {@link #applyMove(EventType)}, each stamped
+ * with the number of ticks run before it; {@link #getReplay()} returns the recording.
+ */
+public class GameEngine implements InputEventListener {
+
+    private final Board board;
+    private final ReplayRecorder recorder = new ReplayRecorder();
+    private boolean gameOver;
+    private int ticksUntilDrop;
+
+    /**
+     * Constructor to create an engine for the standard game on a randomly seeded brick sequence
+     * and spawn the first brick.
+     */
+    public GameEngine() {
+        this(GameConfig.standard());
+    }
+
+    /**
+     * Constructor to create an engine for a game variant on a randomly seeded brick sequence
+     * and spawn the first brick.
+     *
+     * @param config game configuration
+     */
+    public GameEngine(GameConfig config) {
+        this(new SimpleBoard(config,
+                new SeededBrickGenerator(ThreadLocalRandom.current().nextLong(), SeededBrickGenerator.Mode.UNIFORM,
+                        config.getPieces()),
+                new Score()));
+    }
+
+    /**
+     * Constructor to create an engine around an existing board and spawn the first brick.
+     * The game is recorded if the board's generator is seeded and has not dealt a brick yet.
+     *
+     * @param board board to drive
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+        if (board.getBrickGenerator() instanceof SeededBrickGenerator seeded && seeded.getIndex() == 0) {
+            recorder.begin(seeded.getSeed(), seeded.getMode(), board.getConfig());
+        }
+        gameOver = board.createNewBrick();
+        ticksUntilDrop = ticksForLevel(board.getScore().getLevel());
+    }
+
+    /**
+     * Handles brick down movement event.
+     * When the brick cannot move further it is merged into the background, completed
+     * rows are cleared and scored, and the next brick is spawned.
+     *
+     * @param event movement event
+     * @return down data containing cleared row information (null if the brick did not lock) and view data
+     */
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        recorder.move(EventType.DOWN);
+        return moveDown();
+    }
+
+    private DownData moveDown() {
+        boolean canMove = board.moveBrickDown();
+        ClearRow clearRow = null;
+
+        if (!canMove) {
+            // Brick cannot move down further, lock it in place
+            clearRow = lockBrick();
+        }
+
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Handles hard drop event.
+     * The brick is moved straight to its landing position, then locked, cleared and scored
+     * and the next brick spawned, all in this call.
+     *
+     * @param event movement event
+     * @return down data containing cleared row information and view data
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        recorder.move(EventType.HARD_DROP);
+        return new DownData(hardDrop(), board.getViewData());
+    }
+
+    private ClearRow hardDrop() {
+        board.hardDropBrick();
+        return lockBrick();
+    }
+
+    /**
+     * Advances the game by one fixed tick. Gravity is counted in ticks, so the brick falls after
+     * exactly {@link #getDropIntervalTicks()} ticks however irregularly the ticks are driven.
+     *
+     * @return down data if gravity moved or locked the brick during this tick, otherwise null
+     */
+    @Override
+    public DownData onTick() {
+        recorder.tick();
+        if (gameOver || --ticksUntilDrop > 0) {
+            return null;
+        }
+        ticksUntilDrop = getDropIntervalTicks();
+        return moveDown();
+    }
+
+    /**
+     * Applies a player move without building view data, for callers that draw from {@link GameFrame}s.
+     * A down move that cannot proceed locks the brick, as in {@link #onDownEvent(MoveEvent)}, and a hard
+     * drop always locks it, as in {@link #onHardDropEvent(MoveEvent)}.
+     *
+     * @param type move to apply
+     * @return true if the brick moved or rotated; false for a hard drop, which always changes the board
+     */
+    public boolean applyMove(EventType type) {
+        boolean moved = switch (type) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE -> board.rotateLeftBrick();
+            case DOWN -> {
+                if (board.moveBrickDown()) {
+                    yield true;
+                }
+                lockBrick();
+                yield false;
+            }
+            case HARD_DROP -> {
+                hardDrop();
+                yield false;
+            }
+        };
+        // Blocked shifts and rotations change nothing, so they are left out of the recording
+        if (moved || type == EventType.DOWN || type == EventType.HARD_DROP) {
+            recorder.move(type);
+        }
+        return moved;
+    }
+
+    /**
+     * Locks the current brick where it is: merges it into the background, clears and scores
+     * completed rows, and spawns the next brick (setting the game over flag if it cannot be placed).
+     *
+     * @return clear row information for the lock
+     */
+    public ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+
+        // Only add score when lines are actually cleared
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+            board.getScore().addLines(clearRow.getLinesRemoved());
+        }
+
+        // Create new brick, if failed then game over
+        gameOver = board.createNewBrick();
+        return clearRow;
+    }
+
+    /**
+     * Handles brick left movement event.
+     *
+     * @param event movement event
+     * @return updated view data
+     */
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        if (board.moveBrickLeft()) {
+            recorder.move(EventType.LEFT);
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Handles brick right movement event.
+     *
+     * @param event movement event
+     * @return updated view data
+     */
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        if (board.moveBrickRight()) {
+            recorder.move(EventType.RIGHT);
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Handles brick rotation event.
+     *
+     * @param event movement event
+     * @return updated view data
+     */
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        if (board.rotateLeftBrick()) {
+            recorder.move(EventType.ROTATE);
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Creates a new game, on a fresh random seed if the brick sequence is seeded.
+     */
+    @Override
+    public void createNewGame() {
+        if (board.getBrickGenerator() instanceof SeededBrickGenerator seeded) {
+            startGame(ThreadLocalRandom.current().nextLong(), seeded.getMode());
+            return;
+        }
+        recorder.cancel();
+        board.newGame();
+        gameOver = false;
+        ticksUntilDrop = getDropIntervalTicks();
+    }
+
+    /**
+     * Starts a new recorded game on the given brick sequence, e.g. to play back a replay.
+     *
+     * @param seed brick sequence seed
+     * @param mode brick distribution; must match the board's generator
+     * @throws IllegalArgumentException if the board's generator is not seeded with the given mode
+     */
+    public void startGame(long seed, SeededBrickGenerator.Mode mode) {
+        if (!(board.getBrickGenerator() instanceof SeededBrickGenerator seeded) || seeded.getMode() != mode) {
+            throw new IllegalArgumentException("Board cannot deal a seeded " + mode + " brick sequence");
+        }
+        seeded.reseed(seed);
+        recorder.begin(seed, mode, board.getConfig());
+        board.newGame();
+        gameOver = false;
+        ticksUntilDrop = getDropIntervalTicks();
+    }
+
+    /**
+     * Saves the current game state with the provided name.
+     * The state is captured immediately; the file is written in the background.
+     *
+     * @param saveName user provided save name
+     * @return future completed with true if the save was written, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> saveGame(String saveName) {
+        String displayName = (saveName == null || saveName.isBlank())
+                ? GameSaveManager.generateDefaultDisplayName()
+                : saveName.trim();
+        String fileSafeName = GameSaveManager.toFileSafeName(displayName);
+        GameSaveData saveData = board.captureState(displayName, fileSafeName);
+        return GameSaveManager.saveGameAsync(saveData).handle((ignored, exception) -> {
+            if (exception != null) {
+                System.err.println("Failed to save game: " + exception.getMessage());
+                return false;
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Loads a saved game identified by the file-safe name.
+     *
+     * @param fileSafeName sanitized save identifier
+     * @return true if load succeeded, false otherwise
+     */
+    @Override
+    public boolean loadGame(String fileSafeName) {
+        try {
+            Optional<GameSaveData> gameSaveData = GameSaveManager.loadGame(fileSafeName);
+            if (!gameSaveData.isPresent()) {
+                return false;
+            }
+            int[][] savedMatrix = gameSaveData.get().getBoardMatrix();
+            int savedWidth = savedMatrix.length == 0 ? 0 : savedMatrix[0].length;
+            GameConfig config = board.getConfig();
+            if (savedMatrix.length != config.getHeight() || savedWidth != config.getWidth()) {
+                System.err.println("Failed to load game: saved board is " + savedWidth + "x"
+                        + savedMatrix.length + ", this game is " + config.getWidth() + "x" + config.getHeight());
+                return false;
+            }
+            board.restoreState(gameSaveData.get());
+            // A restored game does not follow from a seed, so it cannot be replayed
+            recorder.cancel();
+            gameOver = false;
+            ticksUntilDrop = getDropIntervalTicks();
+            return true;
+        } catch (IOException | ClassNotFoundException exception) {
+            System.err.println("Failed to load game: " + exception.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Lists all available saved games in the background.
+     *
+     * @return future completed with the save metadata, or an empty list if listing fails
+     */
+    @Override
+    public CompletableFuture<List<GameSaveMetadata>> listSavedGames() {
+        return GameSaveManager.listSavesAsync().exceptionally(exception -> {
+            System.err.println("Failed to list saves: " + exception.getMessage());
+            return List.of();
+        });
+    }
+
+    /**
+     * Deletes a saved game identified by the file-safe name in the background.
+     *
+     * @param fileSafeName sanitized save identifier
+     * @return future completed with true if deletion succeeded, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteSave(String fileSafeName) {
+        return GameSaveManager.deleteSaveAsync(fileSafeName).exceptionally(exception -> {
+            System.err.println("Failed to delete save: " + exception.getMessage());
+            return false;
+        });
+    }
+
+    /**
+     * Gets the recording of the current game so far.
+     *
+     * @return replay, or null if the game is not being recorded
+     */
+    public Replay getReplay() {
+        Score score = board.getScore();
+        return recorder.snapshot(score.getValue(), score.getLinesCleared());
+    }
+
+    /**
+     * Indicates whether the last spawned brick could not be placed.
+     *
+     * @return true if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the board driven by this engine.
+     *
+     * @return game board
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the automatic drop interval for the current level.
+     *
+     * @return interval in milliseconds
+     */
+    public int getDropIntervalMillis() {
+        return calculateIntervalForLevel(board.getScore().getLevel());
+    }
+
+    /**
+     * Gets the automatic drop interval for the current level in fixed ticks.
+     *
+     * @return interval in ticks (at least 1)
+     */
+    public int getDropIntervalTicks() {
+        return ticksForLevel(board.getScore().getLevel());
+    }
+
+    private static int ticksForLevel(int level) {
+        return Math.max(1, calculateIntervalForLevel(level) / GameConstants.TICK_MS);
+    }
+
+    /**
+     * Calculates the game loop interval based on the given level.
+     * Higher levels result in faster drop speeds.
+     *
+     * @param level game level
+     * @return interval in milliseconds (with minimum limit)
+     */
+    public static int calculateIntervalForLevel(int level) {
+        int interval = GameConstants.GAME_LOOP_INTERVAL_MS -
+                (Math.max(0, level - 1) * GameConstants.GAME_LOOP_INTERVAL_DECREMENT_MS);
+        return Math.max(interval, GameConstants.GAME_LOOP_MIN_INTERVAL_MS);
+    }
+}
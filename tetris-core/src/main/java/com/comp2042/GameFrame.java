@@ -0,0 +1,222 @@
+package com.comp2042;
+
+import java.util.BitSet;
+
+/**
+ * Snapshot of everything the view needs to draw one frame: board cells, falling brick, score and status.
+ * The frame is itself the {@link BrickView} handed to the renderer, referring to the shared rotation
+ * arrays, so filling and drawing a frame allocates nothing.
+ *
+ * <p>Frames are slots of a {@link com.comp2042.util.TripleBuffer}: the engine thread fills a frame that
+ * no reader holds, then publishes it, and from then on the frame is read-only until the reader moves on
+ * to a newer one. Each board row records the frame sequence in which it last changed, so filling a frame
+ * copies only rows changed since that slot was last filled, and the reader can find the rows to repaint
+ * even when it skipped intermediate frames.
+ */
+public final class GameFrame implements BrickView {
+
+    private final int[][] board;
+    private final long[] rowVersions;
+    private long sequence;
+    private int[][] brickData;
+    private int xPosition;
+    private int yPosition;
+    private int ghostY;
+    private int[][] nextBrickData;
+    private int score;
+    private int linesCleared;
+    private int level;
+    private int highScore;
+    private boolean newHighScore;
+    private boolean gameOver;
+    private int clearCount;
+    private int lastScoreBonus;
+    private long appliedCommands;
+
+    /**
+     * Constructor to create an empty frame for a board of the given size.
+     *
+     * @param rows board rows
+     * @param columns board columns
+     */
+    GameFrame(int rows, int columns) {
+        this.board = new int[rows][columns];
+        this.rowVersions = new long[rows];
+    }
+
+    /**
+     * Copies the engine state into this frame. Called on the engine thread only.
+     *
+     * @param frameSequence sequence number of the frame being published
+     * @param source live board matrix
+     * @param sourceRowVersions frame sequence in which each board row last changed
+     * @param engine engine the state is read from
+     * @param clearCount number of locks so far that cleared at least one row
+     * @param lastScoreBonus score bonus of the most recent clear
+     * @param appliedCommands number of commands the engine thread has applied
+     */
+    void fill(long frameSequence, int[][] source, long[] sourceRowVersions, GameEngine engine,
+              int clearCount, int lastScoreBonus, long appliedCommands) {
+        for (int i = 0; i < board.length; i++) {
+            if (sourceRowVersions[i] > sequence) {
+                System.arraycopy(source[i], 0, board[i], 0, board[i].length);
+                rowVersions[i] = sourceRowVersions[i];
+            }
+        }
+        Board board = engine.getBoard();
+        Score currentScore = board.getScore();
+        this.sequence = frameSequence;
+        this.brickData = board.getCurrentRotationTable().getShape(board.getBrickRotation());
+        this.xPosition = board.getBrickX();
+        this.yPosition = board.getBrickY();
+        this.ghostY = board.getGhostY();
+        this.nextBrickData = board.getNextRotationTable().getShape(0);
+        this.score = currentScore.getValue();
+        this.linesCleared = currentScore.getLinesCleared();
+        this.level = currentScore.getLevel();
+        this.highScore = currentScore.getHighScore();
+        this.newHighScore = currentScore.isNewHighScoreAchieved();
+        this.gameOver = engine.isGameOver();
+        this.clearCount = clearCount;
+        this.lastScoreBonus = lastScoreBonus;
+        this.appliedCommands = appliedCommands;
+    }
+
+    /**
+     * Adds the rows that changed after the given frame to the set.
+     *
+     * @param frameSequence sequence of the frame last shown
+     * @param dirtyRows set receiving row indices
+     */
+    public void collectRowsChangedSince(long frameSequence, BitSet dirtyRows) {
+        for (int i = 0; i < rowVersions.length; i++) {
+            if (rowVersions[i] > frameSequence) {
+                dirtyRows.set(i);
+            }
+        }
+    }
+
+    /**
+     * Gets the frame sequence number; later frames have larger numbers.
+     *
+     * @return sequence number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the board cells. The array belongs to the frame and must not be modified or kept.
+     *
+     * @return board matrix
+     */
+    public int[][] getBoard() {
+        return board;
+    }
+
+    @Override
+    public int[][] getBrickData() {
+        return brickData;
+    }
+
+    @Override
+    public int getxPosition() {
+        return xPosition;
+    }
+
+    @Override
+    public int getyPosition() {
+        return yPosition;
+    }
+
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    @Override
+    public int[][] getNextBrickData() {
+        return nextBrickData;
+    }
+
+    /**
+     * Gets the score.
+     *
+     * @return score value
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of cleared lines.
+     *
+     * @return cleared lines
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the level.
+     *
+     * @return level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the high score.
+     *
+     * @return high score
+     */
+    public int getHighScore() {
+        return highScore;
+    }
+
+    /**
+     * Indicates whether this game has set a new high score.
+     *
+     * @return true if a new high score was achieved
+     */
+    public boolean isNewHighScore() {
+        return newHighScore;
+    }
+
+    /**
+     * Indicates whether the game is over.
+     *
+     * @return true if the last brick could not spawn
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the number of locks so far that cleared at least one row; a change means a new clear to announce.
+     *
+     * @return clear count
+     */
+    public int getClearCount() {
+        return clearCount;
+    }
+
+    /**
+     * Gets the score bonus of the most recent clear.
+     *
+     * @return score bonus
+     */
+    public int getLastScoreBonus() {
+        return lastScoreBonus;
+    }
+
+    /**
+     * Gets the number of commands the engine thread had applied when this frame was filled.
+     *
+     * @return applied command count
+     */
+    public long getAppliedCommands() {
+        return appliedCommands;
+    }
+}
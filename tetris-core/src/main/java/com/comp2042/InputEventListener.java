@@ -3,6 +3,7 @@ package com.comp2042;
 import com.comp2042.save.GameSaveMetadata;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for handling user input events in the game.
@@ -18,6 +19,14 @@ public interface InputEventListener {
      */
     DownData onDownEvent(MoveEvent event);
 
+    /**
+     * Handles hard drop event: the brick drops to its landing position and locks in the same step.
+     *
+     * @param event movement event containing event type and source
+     * @return down data containing cleared row information and updated view data
+     */
+    DownData onHardDropEvent(MoveEvent event);
+
     /**
      * Handles brick left movement event.
      *
@@ -42,6 +51,14 @@ public interface InputEventListener {
      */
     ViewData onRotateEvent(MoveEvent event);
 
+    /**
+     * Advances the game by one fixed tick of {@link com.comp2042.util.GameConstants#TICK_MS} milliseconds,
+     * applying gravity when its interval has elapsed.
+     *
+     * @return down data if gravity moved or locked the brick during this tick, otherwise null
+     */
+    DownData onTick();
+
     /**
      * Creates a new game, resetting the game state.
      */
@@ -49,11 +66,12 @@ public interface InputEventListener {
 
     /**
      * Persists the current game state using the provided save name.
+     * The state is captured before returning; the write completes asynchronously.
      *
      * @param saveName user provided save identifier
-     * @return true if saving succeeded
+     * @return future completed with true if saving succeeded
      */
-    boolean saveGame(String saveName);
+    CompletableFuture<Boolean> saveGame(String saveName);
 
     /**
      * Loads a saved game identified by the provided file-safe name.
@@ -64,17 +82,17 @@ public interface InputEventListener {
     boolean loadGame(String fileSafeName);
 
     /**
-     * Lists available saved games for selection.
+     * Lists available saved games for selection, off the calling thread.
      *
-     * @return list of save metadata
+     * @return future completed with the list of save metadata
      */
-    List<GameSaveMetadata> listSavedGames();
+    CompletableFuture<List<GameSaveMetadata>> listSavedGames();
 
     /**
-     * Deletes a saved game identified by the provided file-safe name.
+     * Deletes a saved game identified by the provided file-safe name, off the calling thread.
      *
      * @param fileSafeName sanitized save identifier
-     * @return true if deletion succeeded
+     * @return future completed with true if deletion succeeded
      */
-    boolean deleteSave(String fileSafeName);
+    CompletableFuture<Boolean> deleteSave(String fileSafeName);
 }
@@ -0,0 +1,89 @@
+package com.comp2042;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Preallocated ring of timestamped key presses and releases, written by the UI thread and drained by
+ * the engine thread. Events are stored in parallel primitive arrays, so recording and draining an
+ * event allocates nothing.
+ */
+public final class InputRing {
+
+    /**
+     * Receives drained events in the order they were recorded.
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Handles one event.
+         *
+         * @param action key action
+         * @param pressed true for a press, false for a release
+         * @param timestampNanos {@link System#nanoTime()} when the event was recorded
+         */
+        void onInput(EventType action, boolean pressed, long timestampNanos);
+    }
+
+    private static final EventType[] ACTIONS = EventType.values();
+
+    private final long[] timestamps;
+    private final byte[] actions;
+    private final boolean[] presses;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Constructor to create an empty ring.
+     *
+     * @param capacity maximum number of undrained events; must be a power of two
+     */
+    public InputRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.actions = new byte[capacity];
+        this.presses = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Records an event. Must only be called from the producer thread.
+     *
+     * @param action key action
+     * @param pressed true for a press, false for a release
+     * @param timestampNanos {@link System#nanoTime()} of the event
+     * @return true if recorded, false if the ring is full
+     */
+    public boolean record(EventType action, boolean pressed, long timestampNanos) {
+        long currentTail = tail.get();
+        if (currentTail - head.getAcquire() == timestamps.length) {
+            return false;
+        }
+        int index = (int) currentTail & mask;
+        timestamps[index] = timestampNanos;
+        actions[index] = (byte) action.ordinal();
+        presses[index] = pressed;
+        tail.setRelease(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Passes every recorded event to the handler and frees the slots. Must only be called from the consumer thread.
+     *
+     * @param handler receives the events
+     * @return number of events drained
+     */
+    public int drain(Handler handler) {
+        long currentHead = head.get();
+        long currentTail = tail.getAcquire();
+        for (long i = currentHead; i < currentTail; i++) {
+            int index = (int) i & mask;
+            handler.onInput(ACTIONS[actions[index]], presses[index], timestamps[index]);
+        }
+        head.setRelease(currentTail);
+        return (int) (currentTail - currentHead);
+    }
+}
@@ -0,0 +1,125 @@
+package com.comp2042;
+
+import com.comp2042.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delayed autoshift and autorepeat for held keys, run on the engine thread from timestamped
+ * {@link InputRing} events instead of relying on the operating system's key repeat.
+ *
+ * <p>A left or right press moves once, then repeats every {@link GameConstants#ARR_MS} after
+ * {@link GameConstants#DAS_MS}; the most recently pressed direction wins while both are held.
+ * A held down key repeats every {@link GameConstants#SOFT_DROP_REPEAT_MS}. Rotation and hard drop never repeat.
+ * Repeats are scheduled from the event timestamps, so they stay evenly spaced however late a batch is drained.
+ * After a stall the backlog is dropped: shifts stop after one board width, and soft drop stops once the brick
+ * locks, so a single update never locks more than one brick.
+ */
+final class KeyRepeat {
+
+    private static final long DAS_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.DAS_MS);
+    private static final long ARR_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.ARR_MS);
+    private static final long SOFT_DROP_NANOS = TimeUnit.MILLISECONDS.toNanos(GameConstants.SOFT_DROP_REPEAT_MS);
+    private static final int MAX_SHIFT_REPEATS_PER_UPDATE = GameConfig.MAX_WIDTH;
+
+    private final GameEngine engine;
+    private final boolean[] held = new boolean[EventType.values().length];
+    private EventType shiftDirection;
+    private long nextShiftNanos;
+    private long nextDropNanos;
+
+    /**
+     * Constructor to create key state for an engine.
+     *
+     * @param engine engine the moves are applied to
+     */
+    KeyRepeat(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Applies a press or release, first running any repeats that were due before it.
+     *
+     * @param action key action
+     * @param pressed true for a press, false for a release
+     * @param timestampNanos time of the event
+     * @return true if the board changed
+     */
+    boolean onInput(EventType action, boolean pressed, long timestampNanos) {
+        boolean changed = update(timestampNanos);
+        if (!pressed) {
+            held[action.ordinal()] = false;
+            if (action == shiftDirection) {
+                // Fall back to the other direction if it is still held, with a fresh delay
+                EventType other = action == EventType.LEFT ? EventType.RIGHT : EventType.LEFT;
+                shiftDirection = held[other.ordinal()] ? other : null;
+                nextShiftNanos = timestampNanos + DAS_NANOS;
+            }
+            return changed;
+        }
+        if (held[action.ordinal()]) {
+            // Operating system key repeat
+            return changed;
+        }
+        held[action.ordinal()] = true;
+        if (action == EventType.LEFT || action == EventType.RIGHT) {
+            shiftDirection = action;
+            nextShiftNanos = timestampNanos + DAS_NANOS;
+        } else if (action == EventType.DOWN) {
+            nextDropNanos = timestampNanos + SOFT_DROP_NANOS;
+        }
+        return move(action) | changed;
+    }
+
+    /**
+     * Runs the repeats of held keys that are due by the given time.
+     *
+     * @param nowNanos current time
+     * @return true if the board changed
+     */
+    boolean update(long nowNanos) {
+        boolean changed = false;
+        if (shiftDirection != null) {
+            int repeats = 0;
+            while (nextShiftNanos <= nowNanos && repeats++ < MAX_SHIFT_REPEATS_PER_UPDATE) {
+                changed |= move(shiftDirection);
+                nextShiftNanos += ARR_NANOS;
+            }
+            if (nextShiftNanos <= nowNanos) {
+                // Drop the backlog after a long stall instead of sliding across the whole board
+                nextShiftNanos = nowNanos + ARR_NANOS;
+            }
+        }
+        if (held[EventType.DOWN.ordinal()]) {
+            while (nextDropNanos <= nowNanos && !engine.isGameOver()) {
+                nextDropNanos += SOFT_DROP_NANOS;
+                changed = true;
+                if (!engine.applyMove(EventType.DOWN)) {
+                    // The brick locked; the rest of the backlog must not lock the next ones too
+                    break;
+                }
+            }
+            if (nextDropNanos <= nowNanos) {
+                nextDropNanos = nowNanos + SOFT_DROP_NANOS;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Forgets all held keys, e.g. when the game is paused and releases may be missed.
+     */
+    void releaseAll() {
+        Arrays.fill(held, false);
+        shiftDirection = null;
+    }
+
+    private boolean move(EventType action) {
+        if (engine.isGameOver()) {
+            return false;
+        }
+        // A blocked down move still changes the board by locking the brick, and a hard drop always locks it
+        return engine.applyMove(action) || action == EventType.DOWN || action == EventType.HARD_DROP;
+    }
+}
@@ -45,6 +45,29 @@ public final class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a brick, given as precomputed cell offsets, collides with the game board.
+     * Only the occupied cells are visited, so this is cheaper than scanning the full brick matrix.
+     *
+     * @param matrix game board matrix
+     * @param cellColumns column offsets of the occupied brick cells
+     * @param cellRows row offsets of the occupied brick cells
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @return true if collision occurs, false otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final int[] cellColumns, final int[] cellRows, int x, int y) {
+        for (int cell = 0; cell < cellColumns.length; cell++) {
+            int targetX = x + cellColumns[cell];
+            int targetY = y + cellRows[cell];
+            if (targetY < 0 || checkOutOfBound(matrix, targetX, targetY)
+                    || matrix[targetY][targetX] != GameConstants.COLOR_EMPTY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if coordinates are out of matrix bounds.
      * 
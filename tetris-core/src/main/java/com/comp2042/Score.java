@@ -2,46 +2,37 @@ package com.comp2042;
 
 import com.comp2042.util.GameConstants;
 import com.comp2042.util.HighScoreStorage;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
 
 /**
- * Score management class using JavaFX property binding for score management.
- * Provides score increment, reset, and property binding functionality.
+ * Score management class holding score, cleared lines, level and high score as plain values.
+ * Provides score increment and reset functionality. A score belongs to the thread running its
+ * {@link GameEngine}; UI layers read the values from published {@link GameFrame}s instead.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
-    private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
-    private final IntegerProperty level = new SimpleIntegerProperty(1);
-    private final IntegerProperty highScore = new SimpleIntegerProperty(HighScoreStorage.loadHighScore());
+    private final boolean persistent;
+    private int score;
+    private int linesCleared;
+    private int level = 1;
+    private int highScore;
     private boolean newHighScoreAchieved;
 
     /**
-     * Gets the score property for JavaFX binding.
-     * 
-     * @return score property
-     */
-    public IntegerProperty scoreProperty() {
-        return score;
-    }
-
-    /**
-     * Gets the cleared lines property for JavaFX binding.
-     *
-     * @return cleared lines property
+     * Constructor for a score whose high score is loaded from and saved to {@link HighScoreStorage}.
      */
-    public IntegerProperty linesProperty() {
-        return linesCleared;
+    public Score() {
+        this(true);
     }
 
     /**
-     * Gets the level property for JavaFX binding.
+     * Constructor to create a score.
      *
-     * @return level property
+     * @param persistent true to load and save the high score through {@link HighScoreStorage};
+     *                   false for detached scores (e.g. simulations) that never touch the disk
      */
-    public IntegerProperty levelProperty() {
-        return level;
+    public Score(boolean persistent) {
+        this.persistent = persistent;
+        this.highScore = persistent ? HighScoreStorage.loadHighScore() : 0;
     }
 
     /**
@@ -50,7 +41,7 @@ public final class Score {
      * @param points points to add
      */
     public void add(int points) {
-        score.setValue(score.getValue() + points);
+        score += points;
         checkAndUpdateHighScore();
     }
 
@@ -60,7 +51,7 @@ public final class Score {
      * @param lines number of cleared lines
      */
     public void addLines(int lines) {
-        linesCleared.setValue(linesCleared.getValue() + lines);
+        linesCleared += lines;
         updateLevel();
     }
 
@@ -73,12 +64,14 @@ public final class Score {
      * @param highScoreValue stored high score
      */
     public void applyState(int scoreValue, int lines, int levelValue, int highScoreValue) {
-        score.setValue(Math.max(0, scoreValue));
-        linesCleared.setValue(Math.max(0, lines));
-        level.setValue(Math.max(1, levelValue));
-        int persistedHighScore = Math.max(highScoreValue, HighScoreStorage.loadHighScore());
+        score = Math.max(0, scoreValue);
+        linesCleared = Math.max(0, lines);
+        level = Math.max(1, levelValue);
+        int persistedHighScore = persistent
+                ? Math.max(highScoreValue, HighScoreStorage.loadHighScore())
+                : highScoreValue;
         int resolvedHighScore = Math.max(persistedHighScore, scoreValue);
-        highScore.setValue(resolvedHighScore);
+        highScore = resolvedHighScore;
         newHighScoreAchieved = scoreValue >= resolvedHighScore && scoreValue > persistedHighScore;
     }
 
@@ -86,9 +79,9 @@ public final class Score {
      * Resets the score to 0.
      */
     public void reset() {
-        score.setValue(0);
-        linesCleared.setValue(0);
-        level.setValue(1);
+        score = 0;
+        linesCleared = 0;
+        level = 1;
         newHighScoreAchieved = false;
     }
     
@@ -98,7 +91,7 @@ public final class Score {
      * @return current score
      */
     public int getValue() {
-        return score.getValue();
+        return score;
     }
 
     /**
@@ -107,7 +100,7 @@ public final class Score {
      * @return cleared lines value
      */
     public int getLinesCleared() {
-        return linesCleared.getValue();
+        return linesCleared;
     }
 
     /**
@@ -116,16 +109,7 @@ public final class Score {
      * @return current level
      */
     public int getLevel() {
-        return level.getValue();
-    }
-
-    /**
-     * Gets the high score property.
-     *
-     * @return high score property
-     */
-    public IntegerProperty highScoreProperty() {
-        return highScore;
+        return level;
     }
 
     /**
@@ -134,7 +118,7 @@ public final class Score {
      * @return stored high score
      */
     public int getHighScore() {
-        return highScore.getValue();
+        return highScore;
     }
 
     /**
@@ -147,18 +131,16 @@ public final class Score {
     }
 
     private void updateLevel() {
-        int cleared = linesCleared.getValue();
-        int newLevel = Math.max(1, (cleared / GameConstants.LINES_PER_LEVEL) + 1);
-        if (newLevel != level.getValue()) {
-            level.setValue(newLevel);
-        }
+        level = Math.max(1, (linesCleared / GameConstants.LINES_PER_LEVEL) + 1);
     }
 
     private void checkAndUpdateHighScore() {
-        if (score.getValue() > highScore.getValue()) {
-            highScore.setValue(score.getValue());
+        if (score > highScore) {
+            highScore = score;
             newHighScoreAchieved = true;
-            HighScoreStorage.saveHighScore(score.getValue());
+            if (persistent) {
+                HighScoreStorage.saveHighScore(score);
+            }
         }
     }
 }
@@ -0,0 +1,556 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.save.GameSaveData;
+import com.comp2042.util.GameConstants;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Game board implementation class responsible for managing game state, brick movement and clearing logic.
+ * Implements the Board interface to provide core game functionality.
+ *
+ * <p>Rows are stored in a ring of row arrays: logical row {@code r} (0 at the top) lives in slot
+ * {@code (ringBase + r) % rows}. A count of occupied cells is kept per slot and updated as bricks are merged,
+ * so finding completed rows only looks at the rows the last brick touched. Clearing re-links slots instead
+ * of copying cells: either the rows above the cleared ones move down, or the rows below them move up and
+ * the ring base rotates, whichever moves fewer slots, and the cleared row arrays are emptied and reused as
+ * the new top rows. Clears near the floor therefore cost a few slot moves however tall the board is, and
+ * no clear allocates. {@link #getBoardMatrix()} exposes the rows in logical order through a view array
+ * that is re-linked, O(rows) references, only when read after the ring has rotated.
+ *
+ * <p>The topmost occupied row of every column is also kept up to date on merge and clear. Together with the
+ * brick's bottom profile it gives the row a brick lands on, used for the ghost piece and hard drop, in one
+ * pass over the brick's columns instead of stepping the brick down one collision test at a time.
+ */
+public class SimpleBoard implements Board {
+
+    private final GameConfig config;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final int rowCount;
+    private final int columnCount;
+    private final int[][] rowSlots;
+    private final int[][] currentGameMatrix;
+    private int ringBase;
+    private boolean matrixViewStale;
+    private int offsetX;
+    private int offsetY;
+    private final Score score;
+    private final BitSet dirtyRows = new BitSet();
+    private final int[] slotFillCounts;
+    private final int[][] clearedRowBuffer;
+    private final int[] columnTops;
+    private int lastMergedTopRow;
+    private int lastMergedBottomRow;
+
+    /**
+     * Constructor to initialize the game board.
+     * 
+     * @param width number of columns
+     * @param height number of rows
+     */
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator(), new Score());
+    }
+
+    /**
+     * Constructor to initialize the game board with an explicit brick source and score,
+     * e.g. a {@link com.comp2042.logic.bricks.SeededBrickGenerator} and a detached score for headless simulation.
+     *
+     * @param width number of columns
+     * @param height number of rows
+     * @param brickGenerator generator supplying the brick sequence
+     * @param score score tracker
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator, Score score) {
+        this(GameConfig.builder().width(width).height(height).build(), brickGenerator, score);
+    }
+
+    /**
+     * Constructor to initialize a board sized and spawning as described by a game configuration.
+     * The brick generator should deal the configuration's piece set.
+     *
+     * @param config game configuration
+     * @param brickGenerator generator supplying the brick sequence
+     * @param score score tracker
+     */
+    public SimpleBoard(GameConfig config, BrickGenerator brickGenerator, Score score) {
+        this.config = config;
+        rowCount = config.getHeight();
+        columnCount = config.getWidth();
+        rowSlots = new int[rowCount][columnCount];
+        currentGameMatrix = rowSlots.clone();
+        slotFillCounts = new int[rowCount];
+        clearedRowBuffer = new int[rowCount][];
+        columnTops = new int[columnCount];
+        Arrays.fill(columnTops, rowCount);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        this.score = score;
+        offsetX = config.getSpawnX();
+        offsetY = config.getSpawnY();
+        markAllRowsDirty();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextShapeIndex = brickRotator.getNextShapeIndex();
+        boolean conflict = intersects(nextShapeIndex, offsetX, offsetY);
+        if (conflict) {
+            return false;
+        } else {
+            brickRotator.setCurrentShape(nextShapeIndex);
+            return true;
+        }
+    }
+
+    /**
+     * Finds the landing row from the column tops: in each column of the brick, its lowest cell stops one row
+     * above the column's top, and the brick lands at the highest of these stops. That only holds while the
+     * brick is above every column it covers; a brick tucked under an overhang is stepped down instead.
+     */
+    @Override
+    public int getGhostY() {
+        int rotation = brickRotator.getCurrentShapeIndex();
+        int[] bottomProfile = brickRotator.getRotationTable().getBottomProfile(rotation);
+        int landingY = Integer.MAX_VALUE;
+        for (int c = 0; c < bottomProfile.length; c++) {
+            int bottom = bottomProfile[c];
+            if (bottom < 0) {
+                continue;
+            }
+            int top = columnTops[offsetX + c];
+            if (offsetY + bottom >= top) {
+                return stepDown(rotation);
+            }
+            landingY = Math.min(landingY, top - 1 - bottom);
+        }
+        return landingY;
+    }
+
+    private int stepDown(int rotation) {
+        int y = offsetY;
+        while (!intersects(rotation, offsetX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int landingY = getGhostY();
+        int distance = landingY - offsetY;
+        offsetY = landingY;
+        return distance;
+    }
+
+    @Override
+    public boolean moveBrickTo(int x, int y, int rotation) {
+        if (intersects(rotation, x, y)) {
+            return false;
+        }
+        brickRotator.setCurrentShape(rotation);
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        offsetX = config.getSpawnX();
+        offsetY = config.getSpawnY();
+        
+        // Check if the new brick can be placed at the initial position
+        // Game over only if the brick cannot be placed at the top (spawn position)
+        boolean cannotPlace = intersects(brickRotator.getCurrentShapeIndex(), offsetX, offsetY);
+        
+        // Game over only if the brick overlaps at the spawn position (top of board)
+        // This means blocks have reached the top
+        return cannotPlace;
+    }
+
+    /**
+     * Gets the board rows in logical order, top row first. The returned array is reused and re-linked after
+     * line clears; callers that keep it across a lock must copy it.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        if (matrixViewStale) {
+            for (int row = 0; row < rowCount; row++) {
+                currentGameMatrix[row] = rowSlots[slot(row)];
+            }
+            matrixViewStale = false;
+        }
+        return currentGameMatrix;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(brickRotator.getCurrentShape(), offsetX, offsetY, getGhostY(), getNextRotationTable().getShape(0));
+    }
+
+    /**
+     * Writes the brick's cells into the board in place, counts them into their rows' fill counts and raises
+     * the column tops they cover.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        RotationTable rotationTable = brickRotator.getRotationTable();
+        int rotation = brickRotator.getCurrentShapeIndex();
+        int[][] shape = rotationTable.getShape(rotation);
+        int[] cellColumns = rotationTable.getCellColumns(rotation);
+        int[] cellRows = rotationTable.getCellRows(rotation);
+        for (int cell = 0; cell < cellColumns.length; cell++) {
+            int row = offsetY + cellRows[cell];
+            int slot = slot(row);
+            int column = offsetX + cellColumns[cell];
+            if (rowSlots[slot][column] == GameConstants.COLOR_EMPTY) {
+                slotFillCounts[slot]++;
+            }
+            rowSlots[slot][column] = shape[cellRows[cell]][cellColumns[cell]];
+            if (row < columnTops[column]) {
+                columnTops[column] = row;
+            }
+        }
+        lastMergedTopRow = Math.max(0, offsetY + rotationTable.getMinRow(rotation));
+        lastMergedBottomRow = Math.min(rowCount - 1, offsetY + rotationTable.getMaxRow(rotation));
+        if (lastMergedTopRow <= lastMergedBottomRow) {
+            dirtyRows.set(lastMergedTopRow, lastMergedBottomRow + 1);
+        }
+    }
+
+    /**
+     * Only the rows touched by the last merged brick can have filled up, so only their fill counts are checked.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int linesRemoved = 0;
+        int firstCleared = -1;
+        for (int row = lastMergedTopRow; row <= lastMergedBottomRow; row++) {
+            if (slotFillCounts[slot(row)] == columnCount) {
+                linesRemoved++;
+                if (firstCleared < 0) {
+                    firstCleared = row;
+                }
+            }
+        }
+        if (linesRemoved > 0) {
+            // Move whichever side of the cleared rows is shorter
+            if (lastMergedBottomRow + 1 <= rowCount - firstCleared) {
+                compactDown();
+            } else {
+                compactUp(firstCleared, linesRemoved);
+            }
+            lowerColumnTops(firstCleared, linesRemoved);
+            // Only rows of the last merged brick can fill up, so everything below it is unchanged
+            dirtyRows.set(0, lastMergedBottomRow + 1);
+        }
+        int scoreBonus = GameConstants.BASE_SCORE_PER_LINE * linesRemoved * linesRemoved;
+        return new ClearRow(linesRemoved, getBoardMatrix(), scoreBonus);
+    }
+
+    /**
+     * Moves the rows above the last merged brick's bottom row down past the completed rows, then puts the
+     * emptied arrays of the completed rows back at the top. Costs one slot move per row above the bottom row.
+     */
+    private void compactDown() {
+        int cleared = 0;
+        int target = lastMergedBottomRow;
+        for (int row = lastMergedBottomRow; row >= 0; row--) {
+            int source = slot(row);
+            if (slotFillCounts[source] == columnCount) {
+                clearedRowBuffer[cleared++] = rowSlots[source];
+            } else {
+                moveSlot(source, slot(target--));
+            }
+        }
+        recycleClearedRows(cleared, target);
+    }
+
+    /**
+     * Moves the rows below the first completed row up over the completed rows, puts the emptied arrays of the
+     * completed rows at the bottom, and rotates the ring so they become the top rows; the rows above the
+     * first completed row keep their slots. Costs one slot move per row below the first completed row.
+     */
+    private void compactUp(int firstCleared, int linesRemoved) {
+        int cleared = 0;
+        int target = firstCleared;
+        for (int row = firstCleared; row < rowCount; row++) {
+            int source = slot(row);
+            if (row <= lastMergedBottomRow && slotFillCounts[source] == columnCount) {
+                clearedRowBuffer[cleared++] = rowSlots[source];
+            } else {
+                moveSlot(source, slot(target++));
+            }
+        }
+        recycleClearedRows(cleared, rowCount - 1);
+        ringBase -= linesRemoved;
+        if (ringBase < 0) {
+            ringBase += rowCount;
+        }
+        matrixViewStale = true;
+    }
+
+    /**
+     * Updates the column tops after a clear. The first cleared row was full, so no top lies below it. A top
+     * above it belongs to a cell that moved down by the number of cleared rows; a top on it was cleared, and
+     * the new top is searched for from the first row that can still hold an old cell of that column.
+     */
+    private void lowerColumnTops(int firstCleared, int linesRemoved) {
+        for (int column = 0; column < columnCount; column++) {
+            int top = columnTops[column];
+            if (top < firstCleared) {
+                columnTops[column] = top + linesRemoved;
+            } else {
+                columnTops[column] = findColumnTop(column, firstCleared + linesRemoved);
+            }
+        }
+    }
+
+    /**
+     * Scans a column downwards for its topmost occupied row.
+     *
+     * @return topmost occupied row at or below {@code fromRow}, or the row count if there is none
+     */
+    private int findColumnTop(int column, int fromRow) {
+        int row = fromRow;
+        while (row < rowCount && rowSlots[slot(row)][column] == GameConstants.COLOR_EMPTY) {
+            row++;
+        }
+        return row;
+    }
+
+    private void moveSlot(int source, int target) {
+        if (source != target) {
+            rowSlots[target] = rowSlots[source];
+            slotFillCounts[target] = slotFillCounts[source];
+            matrixViewStale = true;
+        }
+    }
+
+    /**
+     * Empties the buffered cleared row arrays and links them into the logical rows ending at {@code lastRow}.
+     */
+    private void recycleClearedRows(int cleared, int lastRow) {
+        for (int i = 0; i < cleared; i++) {
+            int[] row = clearedRowBuffer[i];
+            clearedRowBuffer[i] = null;
+            Arrays.fill(row, GameConstants.COLOR_EMPTY);
+            int slot = slot(lastRow - i);
+            rowSlots[slot] = row;
+            slotFillCounts[slot] = 0;
+        }
+        matrixViewStale = true;
+    }
+
+    @Override
+    public void collectDirtyRows(BitSet dirtyRows) {
+        dirtyRows.or(this.dirtyRows);
+        this.dirtyRows.clear();
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+
+    @Override
+    public void newGame() {
+        for (int[] row : rowSlots) {
+            Arrays.fill(row, GameConstants.COLOR_EMPTY);
+        }
+        Arrays.fill(slotFillCounts, 0);
+        Arrays.fill(columnTops, rowCount);
+        markAllRowsDirty();
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public int getBrickX() {
+        return offsetX;
+    }
+
+    @Override
+    public int getBrickY() {
+        return offsetY;
+    }
+
+    @Override
+    public int getBrickRotation() {
+        return brickRotator.getCurrentShapeIndex();
+    }
+
+    @Override
+    public RotationTable getCurrentRotationTable() {
+        return brickRotator.getRotationTable();
+    }
+
+    @Override
+    public RotationTable getNextRotationTable() {
+        return brickGenerator.getNextBrick().getRotationTable();
+    }
+
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    @Override
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    @Override
+    public RotationTable getPreviewRotationTable(int ahead) {
+        Brick brick = brickGenerator.peekBrick(ahead);
+        return brick == null ? null : brick.getRotationTable();
+    }
+
+    @Override
+    public GameSaveData captureState(String displayName, String fileSafeName) {
+        int[][] boardCopy = MatrixOperations.copy(getBoardMatrix());
+        String currentBrickType = BrickFactory.getTypeName(brickRotator.getCurrentBrick());
+        List<String> queuedTypes = brickGenerator.exportQueuedBrickTypes();
+
+        return GameSaveData.builder()
+                .displayName(displayName)
+                .fileSafeName(fileSafeName)
+                .savedAt(System.currentTimeMillis())
+                .boardMatrix(boardCopy)
+                .currentOffset(offsetX, offsetY)
+                .currentBrickType(currentBrickType)
+                .currentRotationIndex(brickRotator.getCurrentShapeIndex())
+                .queuedBrickTypes(queuedTypes)
+                .scoreValue(score.getValue())
+                .linesCleared(score.getLinesCleared())
+                .level(score.getLevel())
+                .highScoreValue(score.getHighScore())
+                .build();
+    }
+
+    @Override
+    public void restoreState(GameSaveData saveData) {
+        loadRows(saveData.getBoardMatrix());
+        markAllRowsDirty();
+        offsetX = saveData.getCurrentOffsetX();
+        offsetY = saveData.getCurrentOffsetY();
+        Brick loadedBrick = BrickFactory.createBrick(saveData.getCurrentBrickType());
+        brickRotator.setBrick(loadedBrick);
+        brickRotator.setCurrentShape(saveData.getCurrentRotationIndex());
+        brickGenerator.importQueuedBrickTypes(saveData.getQueuedBrickTypes());
+        score.applyState(
+                saveData.getScoreValue(),
+                saveData.getLinesCleared(),
+                saveData.getLevel(),
+                saveData.getHighScoreValue());
+    }
+
+    /**
+     * Copies saved cells into the row arrays in logical order, resetting the ring, and recounts every row
+     * and column top.
+     */
+    private void loadRows(int[][] savedRows) {
+        ringBase = 0;
+        matrixViewStale = true;
+        for (int row = 0; row < rowCount; row++) {
+            int[] target = rowSlots[row];
+            Arrays.fill(target, GameConstants.COLOR_EMPTY);
+            if (row < savedRows.length) {
+                System.arraycopy(savedRows[row], 0, target, 0, Math.min(columnCount, savedRows[row].length));
+            }
+            int count = 0;
+            for (int cell : target) {
+                if (cell != GameConstants.COLOR_EMPTY) {
+                    count++;
+                }
+            }
+            slotFillCounts[row] = count;
+        }
+        for (int column = 0; column < columnCount; column++) {
+            columnTops[column] = findColumnTop(column, 0);
+        }
+    }
+
+    /**
+     * Maps a logical row to its slot in the ring.
+     */
+    private int slot(int row) {
+        int slot = ringBase + row;
+        return slot < rowCount ? slot : slot - rowCount;
+    }
+
+    private void markAllRowsDirty() {
+        dirtyRows.set(0, rowCount);
+    }
+
+    /**
+     * Moves the current brick by the given delta if the target position is free.
+     * The collision check runs directly against the live board matrix, which
+     * is only read, so no copy is required.
+     *
+     * @param dx horizontal delta
+     * @param dy vertical delta
+     * @return true if the brick was moved, false if blocked
+     */
+    private boolean tryMove(int dx, int dy) {
+        int targetX = offsetX + dx;
+        int targetY = offsetY + dy;
+        boolean conflict = intersects(brickRotator.getCurrentShapeIndex(), targetX, targetY);
+        if (conflict) {
+            return false;
+        } else {
+            offsetX = targetX;
+            offsetY = targetY;
+            return true;
+        }
+    }
+
+    /**
+     * Checks the given rotation of the active brick against the live board using its precomputed cell offsets.
+     *
+     * @param rotation rotation index
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @return true if collision occurs, false otherwise
+     */
+    private boolean intersects(int rotation, int x, int y) {
+        RotationTable rotationTable = brickRotator.getRotationTable();
+        int[] cellColumns = rotationTable.getCellColumns(rotation);
+        int[] cellRows = rotationTable.getCellRows(rotation);
+        for (int cell = 0; cell < cellColumns.length; cell++) {
+            int column = x + cellColumns[cell];
+            int row = y + cellRows[cell];
+            if (row < 0 || row >= rowCount || column < 0 || column >= columnCount
+                    || rowSlots[slot(row)][column] != GameConstants.COLOR_EMPTY) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
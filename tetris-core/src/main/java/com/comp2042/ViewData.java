@@ -2,37 +2,42 @@ package com.comp2042;
 
 /**
  * Data class containing view information for rendering the current game state.
- * Includes current brick data, position, and next brick preview.
+ * Includes current brick data, position, landing position, and next brick preview.
+ * Instances are immutable flyweights: the shape matrices are the shared rotation arrays, not copies.
  */
-public final class ViewData {
+public final class ViewData implements BrickView {
 
     private final int[][] brickData;
     private final int xPosition;
     private final int yPosition;
+    private final int ghostY;
     private final int[][] nextBrickData;
 
     /**
      * Constructor to create view data.
      *
-     * @param brickData current brick shape matrix
+     * @param brickData current brick shape matrix (shared, not copied)
      * @param xPosition current brick X position
      * @param yPosition current brick Y position
-     * @param nextBrickData next brick shape matrix for preview
+     * @param ghostY Y position the current brick would land on
+     * @param nextBrickData next brick shape matrix for preview (shared, not copied)
      */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int ghostY, int[][] nextBrickData) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
+        this.ghostY = ghostY;
         this.nextBrickData = nextBrickData;
     }
 
     /**
-     * Gets a copy of the current brick data.
+     * Gets the current brick data.
      *
-     * @return brick shape matrix
+     * @return shared brick shape matrix (read-only)
      */
+    @Override
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData;
     }
 
     /**
@@ -40,6 +45,7 @@ public final class ViewData {
      *
      * @return X coordinate
      */
+    @Override
     public int getxPosition() {
         return xPosition;
     }
@@ -49,16 +55,28 @@ public final class ViewData {
      *
      * @return Y coordinate
      */
+    @Override
     public int getyPosition() {
         return yPosition;
     }
 
     /**
-     * Gets a copy of the next brick data for preview.
+     * Gets the Y position the current brick would land on.
      *
-     * @return next brick shape matrix
+     * @return landing Y coordinate
      */
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets the next brick data for preview.
+     *
+     * @return shared next brick shape matrix (read-only)
+     */
+    @Override
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData;
     }
 }
@@ -0,0 +1,332 @@
+package com.comp2042.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.util.GameConstants;
+
+/**
+ * Compact board used by the placement search. Each row is a {@code long} occupancy mask
+ * (bit {@code c} set when column {@code c} is filled) with no colours, so copying a board,
+ * dropping a brick, clearing rows and computing the evaluation features take a few bit
+ * operations per row and allocate nothing.
+ */
+public final class AiBoard {
+
+    /** Maximum supported board width, limited by the number of bits in a row mask. */
+    public static final int MAX_WIDTH = Long.SIZE;
+
+    private final int width;
+    private final int height;
+    private final int spawnX;
+    private final int spawnY;
+    private final long fullRowMask;
+    private final long[] rows;
+    private final int[] columnHeights;
+
+    /**
+     * Constructor to create an empty board with the standard spawn point.
+     *
+     * @param width number of columns (at most {@link #MAX_WIDTH})
+     * @param height number of rows
+     */
+    public AiBoard(int width, int height) {
+        this(width, height, GameConstants.INITIAL_BRICK_X, GameConstants.INITIAL_BRICK_Y);
+    }
+
+    /**
+     * Constructor to create an empty board of the size and spawn point of a game configuration.
+     *
+     * @param config game configuration
+     */
+    public AiBoard(GameConfig config) {
+        this(config.getWidth(), config.getHeight(), config.getSpawnX(), config.getSpawnY());
+    }
+
+    /**
+     * Constructor to create an empty board.
+     *
+     * @param width number of columns (at most {@link #MAX_WIDTH})
+     * @param height number of rows
+     * @param spawnX X coordinate bricks spawn at
+     * @param spawnY Y coordinate bricks spawn at
+     */
+    public AiBoard(int width, int height, int spawnX, int spawnY) {
+        if (width <= 0 || width > MAX_WIDTH || height <= 0) {
+            throw new IllegalArgumentException("Unsupported board size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.fullRowMask = width == MAX_WIDTH ? -1L : (1L << width) - 1;
+        this.rows = new long[height];
+        this.columnHeights = new int[width];
+    }
+
+    /**
+     * Loads the occupancy of a board matrix.
+     *
+     * @param matrix board matrix indexed as {@code [row][column]}, with the same size as this board
+     */
+    public void load(int[][] matrix) {
+        for (int row = 0; row < height; row++) {
+            long bits = 0L;
+            int[] matrixRow = matrix[row];
+            for (int column = 0; column < width; column++) {
+                if (matrixRow[column] != GameConstants.COLOR_EMPTY) {
+                    bits |= 1L << column;
+                }
+            }
+            rows[row] = bits;
+        }
+    }
+
+    /**
+     * Creates an empty board with the same size and spawn point as this one.
+     *
+     * @return new empty board
+     */
+    public AiBoard emptyCopy() {
+        return new AiBoard(width, height, spawnX, spawnY);
+    }
+
+    /**
+     * Copies another board of the same size into this one.
+     *
+     * @param other board to copy
+     */
+    public void copyFrom(AiBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+    }
+
+    /**
+     * Checks whether a brick collides with the walls, floor or filled cells.
+     *
+     * @param shapeRows brick row masks from {@link com.comp2042.logic.bricks.RotationTable#getRowMasks(int)}
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @return true if collision occurs
+     */
+    public boolean collides(long[] shapeRows, int x, int y) {
+        for (int r = 0; r < shapeRows.length; r++) {
+            long bits = shapeRows[r];
+            if (bits == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= height) {
+                return true;
+            }
+            long placed = x >= 0 ? bits << x : bits >>> -x;
+            // Bits shifted past either wall no longer round-trip to the original mask
+            if ((x >= 0 ? placed >>> x : placed << -x) != bits || (placed & ~fullRowMask) != 0
+                    || (rows[row] & placed) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a brick fits at the spawn position.
+     *
+     * @param shapeRows brick row masks
+     * @return true if the brick can be there
+     */
+    public boolean fitsAtSpawn(long[] shapeRows) {
+        return !collides(shapeRows, spawnX, spawnY);
+    }
+
+    /**
+     * Shifts a brick from the spawn column one column at a time in one direction until blocked.
+     *
+     * @param shapeRows brick row masks, which must fit at the spawn position
+     * @param step -1 to shift left, 1 to shift right
+     * @return furthest reachable X coordinate
+     */
+    public int reachableX(long[] shapeRows, int step) {
+        int x = spawnX;
+        while (!collides(shapeRows, x + step, spawnY)) {
+            x += step;
+        }
+        return x;
+    }
+
+    /**
+     * Finds the row where a brick comes to rest when dropped straight down.
+     *
+     * @param shapeRows brick row masks
+     * @param x brick X coordinate
+     * @param y starting Y coordinate, which must not collide
+     * @return landing Y coordinate
+     */
+    public int dropRow(long[] shapeRows, int x, int y) {
+        while (!collides(shapeRows, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Merges a brick into the board and removes completed rows.
+     *
+     * @param shapeRows brick row masks
+     * @param x brick X coordinate
+     * @param y brick Y coordinate, which must not collide
+     * @return number of rows cleared
+     */
+    public int place(long[] shapeRows, int x, int y) {
+        for (int r = 0; r < shapeRows.length; r++) {
+            long bits = shapeRows[r];
+            if (bits != 0) {
+                rows[y + r] |= x >= 0 ? bits << x : bits >>> -x;
+            }
+        }
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (rows[read] != fullRowMask) {
+                rows[write--] = rows[read];
+            }
+        }
+        int cleared = write + 1;
+        for (int row = write; row >= 0; row--) {
+            rows[row] = 0L;
+        }
+        return cleared;
+    }
+
+    /**
+     * Counts empty cells that have a filled cell somewhere above them in the same column.
+     *
+     * @return hole count
+     */
+    public int countHoles() {
+        long covered = 0L;
+        int holes = 0;
+        for (int row = 0; row < height; row++) {
+            holes += Long.bitCount(covered & ~rows[row]);
+            covered |= rows[row];
+        }
+        return holes;
+    }
+
+    /**
+     * Sums the heights of all columns.
+     *
+     * @return aggregate height
+     */
+    public int aggregateHeight() {
+        computeColumnHeights();
+        int total = 0;
+        for (int columnHeight : columnHeights) {
+            total += columnHeight;
+        }
+        return total;
+    }
+
+    /**
+     * Sums the absolute height differences between neighbouring columns.
+     *
+     * @return bumpiness
+     */
+    public int bumpiness() {
+        computeColumnHeights();
+        int total = 0;
+        for (int column = 1; column < width; column++) {
+            total += Math.abs(columnHeights[column] - columnHeights[column - 1]);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the height of the tallest column.
+     *
+     * @return maximum column height
+     */
+    public int maxHeight() {
+        for (int row = 0; row < height; row++) {
+            if (rows[row] != 0L) {
+                return height - row;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Computes a 64-bit hash of the occupancy, for transposition tables. Equal boards always have
+     * equal hashes; different boards collide with negligible probability.
+     *
+     * @return board hash
+     */
+    public long hash() {
+        long hash = 0x9E3779B97F4A7C15L;
+        for (int row = 0; row < height; row++) {
+            hash = Long.rotateLeft(hash ^ rows[row], 29) * 0xBF58476D1CE4E5B9L + row;
+        }
+        hash ^= hash >>> 32;
+        hash *= 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 29);
+    }
+
+    /**
+     * Gets the occupancy bitmask of a row.
+     *
+     * @param row row index
+     * @return bitmask with bit {@code c} set when column {@code c} is filled
+     */
+    public long getRowMask(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return board width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return board height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the X coordinate bricks spawn at.
+     *
+     * @return spawn column
+     */
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    /**
+     * Gets the Y coordinate bricks spawn at.
+     *
+     * @return spawn row
+     */
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    private void computeColumnHeights() {
+        long seen = 0L;
+        for (int row = 0; row < height && seen != fullRowMask; row++) {
+            long fresh = rows[row] & ~seen;
+            while (fresh != 0L) {
+                columnHeights[Long.numberOfTrailingZeros(fresh)] = height - row;
+                fresh &= fresh - 1;
+            }
+            seen |= rows[row];
+        }
+        long empty = ~seen & fullRowMask;
+        while (empty != 0L) {
+            columnHeights[Long.numberOfTrailingZeros(empty)] = 0;
+            empty &= empty - 1;
+        }
+    }
+}
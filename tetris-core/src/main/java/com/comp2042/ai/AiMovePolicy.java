@@ -0,0 +1,56 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.sim.MovePolicy;
+import com.comp2042.sim.Placement;
+
+/**
+ * Move policy that plays the placement chosen by a {@link PlacementSearch}, for the batch simulator.
+ */
+public final class AiMovePolicy implements MovePolicy {
+
+    private final WeightedEvaluator evaluator;
+    private final boolean useNextBrick;
+    private PlacementSearch search;
+    private AiBoard aiBoard;
+
+    /**
+     * Constructor to create a policy with the standard evaluator that also considers the next brick.
+     *
+     * @param seed game seed (unused; the policy is deterministic)
+     */
+    public AiMovePolicy(long seed) {
+        this(WeightedEvaluator.standard(), true);
+    }
+
+    /**
+     * Constructor to create a policy.
+     *
+     * @param evaluator board evaluator
+     * @param useNextBrick true to also place the next brick before evaluating
+     */
+    public AiMovePolicy(WeightedEvaluator evaluator, boolean useNextBrick) {
+        this.evaluator = evaluator;
+        this.useNextBrick = useNextBrick;
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        if (aiBoard == null) {
+            aiBoard = new AiBoard(board.getConfig());
+            search = new PlacementSearch(evaluator, useNextBrick, aiBoard);
+        }
+        aiBoard.load(board.getBoardMatrix());
+        Placement placement = search.findBest(aiBoard, board.getCurrentRotationTable(), board.getNextRotationTable());
+        return placement != null ? placement : new Placement(board.getBrickRotation(), board.getBrickX());
+    }
+
+    /**
+     * Gets the number of boards evaluated by this policy so far.
+     *
+     * @return evaluated placement count
+     */
+    public long getEvaluatedPlacements() {
+        return search == null ? 0 : search.getEvaluatedPlacements();
+    }
+}
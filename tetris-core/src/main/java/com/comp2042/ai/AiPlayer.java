@@ -0,0 +1,108 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.sim.Placement;
+
+/**
+ * Plays a {@link GameEngine} through its {@link com.comp2042.InputEventListener} methods, moving each
+ * brick to the placement found by a {@link PlacementSearch} along the shortest input path found by a
+ * {@link MoveGenerator}, ending in a hard drop. Can also just suggest the placement, for a hint.
+ * Must be used from the thread that owns the engine.
+ */
+public final class AiPlayer {
+
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.AI);
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.AI);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.AI);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.AI);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.AI);
+
+    private final GameEngine engine;
+    private final AiBoard aiBoard;
+    private final PlacementSearch search;
+    private final MoveGenerator moveGenerator;
+    private EventType[] path = new EventType[0];
+
+    /**
+     * Constructor to create a player for an engine.
+     *
+     * @param engine engine to play
+     * @param evaluator board evaluator
+     * @param useNextBrick true to also place the next brick before evaluating
+     */
+    public AiPlayer(GameEngine engine, WeightedEvaluator evaluator, boolean useNextBrick) {
+        this.engine = engine;
+        this.aiBoard = new AiBoard(engine.getBoard().getConfig());
+        this.search = new PlacementSearch(evaluator, useNextBrick, aiBoard);
+        this.moveGenerator = new MoveGenerator(aiBoard);
+    }
+
+    /**
+     * Finds the best placement for the current brick without moving it.
+     *
+     * @return suggested placement, or null if the brick cannot be placed
+     */
+    public Placement suggest() {
+        Board board = engine.getBoard();
+        aiBoard.load(board.getBoardMatrix());
+        return search.findBest(aiBoard, board.getCurrentRotationTable(), board.getNextRotationTable());
+    }
+
+    /**
+     * Moves the current brick to the suggested placement along the shortest input path and hard drops it.
+     * If the placement cannot be reached from where the brick is, the brick is hard dropped where it is.
+     *
+     * @return down data of the lock, or null if the game is already over
+     */
+    public DownData playPiece() {
+        if (engine.isGameOver()) {
+            return null;
+        }
+        Placement placement = suggest();
+        int lock = placement == null ? -1 : findPath(placement);
+        if (lock < 0) {
+            return engine.onHardDropEvent(HARD_DROP);
+        }
+        int length = moveGenerator.getPath(lock, path);
+        DownData downData = null;
+        for (int i = 0; i < length; i++) {
+            switch (path[i]) {
+                case LEFT -> engine.onLeftEvent(LEFT);
+                case RIGHT -> engine.onRightEvent(RIGHT);
+                case ROTATE -> engine.onRotateEvent(ROTATE);
+                case DOWN -> engine.onDownEvent(DOWN);
+                case HARD_DROP -> downData = engine.onHardDropEvent(HARD_DROP);
+            }
+        }
+        return downData;
+    }
+
+    /**
+     * Searches the moves of the current brick from where it is and finds the lock position of a placement,
+     * which is the placement's rotation dropped straight down from the spawn row.
+     *
+     * @return lock position index in the move generator, or -1 if it is not reachable
+     */
+    private int findPath(Placement placement) {
+        Board board = engine.getBoard();
+        RotationTable brick = board.getCurrentRotationTable();
+        int rotation = placement.getRotation();
+        long[] shapeRows = brick.getRowMasks(rotation);
+        if (aiBoard.collides(shapeRows, placement.getX(), aiBoard.getSpawnY())) {
+            return -1;
+        }
+        moveGenerator.generate(aiBoard, brick, board.getBrickX(), board.getBrickY(), board.getBrickRotation());
+        int landingY = aiBoard.dropRow(shapeRows, placement.getX(), aiBoard.getSpawnY());
+        int lock = moveGenerator.findLock(placement.getX(), landingY, rotation);
+        if (lock >= 0 && path.length < moveGenerator.getPathLength(lock)) {
+            path = new EventType[moveGenerator.getPathLength(lock)];
+        }
+        return lock;
+    }
+}
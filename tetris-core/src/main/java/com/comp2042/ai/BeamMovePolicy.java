@@ -0,0 +1,56 @@
+package com.comp2042.ai;
+
+import com.comp2042.Board;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.sim.MovePolicy;
+import com.comp2042.sim.Placement;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Move policy that plays the first placement of a {@link BeamSearchPlanner} line over the current brick and
+ * the preview queue, for the batch simulator.
+ */
+public final class BeamMovePolicy implements MovePolicy {
+
+    private static final int LOOKAHEAD = 3;
+    private static final int BEAM_WIDTH = 8;
+    // Generous enough that batch runs are limited by depth, not time, and stay reproducible
+    private static final long BUDGET_MILLIS = 1000;
+
+    private final BeamSearchPlanner planner;
+    private final RotationTable[] bricks = new RotationTable[LOOKAHEAD];
+    private AiBoard aiBoard;
+
+    /**
+     * Constructor to create a policy with the standard evaluator on the common pool.
+     *
+     * @param seed game seed (unused; the policy is deterministic)
+     */
+    public BeamMovePolicy(long seed) {
+        this(new BeamSearchPlanner(WeightedEvaluator.standard(), BEAM_WIDTH, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Constructor to create a policy.
+     *
+     * @param planner planner used for every brick
+     */
+    public BeamMovePolicy(BeamSearchPlanner planner) {
+        this.planner = planner;
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        if (aiBoard == null) {
+            aiBoard = new AiBoard(board.getConfig());
+        }
+        aiBoard.load(board.getBoardMatrix());
+        bricks[0] = board.getCurrentRotationTable();
+        for (int ahead = 1; ahead < LOOKAHEAD; ahead++) {
+            bricks[ahead] = board.getPreviewRotationTable(ahead - 1);
+        }
+        Placement placement = planner.plan(aiBoard, bricks, BUDGET_MILLIS).getFirstPlacement();
+        return placement != null ? placement : new Placement(board.getBrickRotation(), board.getBrickX());
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.sim.Placement;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Lookahead planner that places several bricks of the preview queue with a beam search.
+ *
+ * <p>Each level places the next brick on every board in the beam, trying every reachable rotation and
+ * column as {@link PlacementSearch} does. The boards of a level are expanded in parallel on a
+ * {@link ForkJoinPool}, and collected in a transposition table keyed by {@link AiBoard#hash()}, so a board
+ * reached by several move orders is kept once, with its best score. The best {@code beamWidth} boards
+ * form the next level. When the time budget runs out the level in progress is abandoned and the best line
+ * of the deepest completed level is returned; the first level is always completed so there is always a move.
+ *
+ * <p>The planner is thread-safe; searches only read the board they are given.
+ */
+public final class BeamSearchPlanner {
+
+    private static final Comparator<Node> BEST_FIRST = Comparator.comparingDouble((Node node) -> node.score).reversed()
+            .thenComparingLong(node -> node.order);
+
+    private final WeightedEvaluator evaluator;
+    private final int beamWidth;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor to create a planner.
+     *
+     * @param evaluator board evaluator
+     * @param beamWidth number of boards kept per level
+     * @param pool pool the levels are expanded on
+     */
+    public BeamSearchPlanner(WeightedEvaluator evaluator, int beamWidth, ForkJoinPool pool) {
+        if (beamWidth <= 0) {
+            throw new IllegalArgumentException("Beam width must be positive: " + beamWidth);
+        }
+        this.evaluator = evaluator;
+        this.beamWidth = beamWidth;
+        this.pool = pool;
+    }
+
+    /**
+     * Searches on the pool without blocking the caller, e.g. the UI thread.
+     * The board is copied first, so the caller may keep changing its own.
+     *
+     * @param board board without the falling brick
+     * @param bricks current brick followed by the preview queue
+     * @param budgetMillis time budget in milliseconds
+     * @return future completed with the plan
+     */
+    public CompletableFuture<Plan> planAsync(AiBoard board, RotationTable[] bricks, long budgetMillis) {
+        AiBoard snapshot = board.emptyCopy();
+        snapshot.copyFrom(board);
+        RotationTable[] queue = bricks.clone();
+        return CompletableFuture.supplyAsync(() -> plan(snapshot, queue, budgetMillis), pool);
+    }
+
+    /**
+     * Searches for the best line of placements within the time budget.
+     *
+     * @param board board without the falling brick (not modified)
+     * @param bricks current brick followed by the preview queue; a null entry ends the queue
+     * @param budgetMillis time budget in milliseconds
+     * @return best plan found
+     */
+    public Plan plan(AiBoard board, RotationTable[] bricks, long budgetMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        AtomicLong expanded = new AtomicLong();
+        List<Node> beam = List.of(new Node(board, null, null, 0, 0, 0));
+        Node best = null;
+        boolean timedOut = false;
+        for (int depth = 0; depth < bricks.length && bricks[depth] != null; depth++) {
+            // The first level ignores the deadline, so there is always a move to return
+            boolean timed = depth > 0;
+            if (timed && System.nanoTime() - deadline > 0) {
+                timedOut = true;
+                break;
+            }
+            Map<Long, Node> table = expandLevel(beam, bricks[depth], timed, deadline, expanded);
+            if (table == null) {
+                timedOut = true;
+                break;
+            }
+            if (table.isEmpty()) {
+                // Every board in the beam tops out with this brick
+                break;
+            }
+            List<Node> level = new ArrayList<>(table.values());
+            level.sort(BEST_FIRST);
+            beam = level.size() > beamWidth ? level.subList(0, beamWidth) : level;
+            best = beam.get(0);
+        }
+        return new Plan(best == null ? List.of() : best.line(), best == null ? Double.NEGATIVE_INFINITY : best.score,
+                expanded.get(), timedOut);
+    }
+
+    /**
+     * Expands every board of the beam with one brick in parallel. The deadline is only checked if
+     * {@code timed} is set.
+     *
+     * @return transposition table of the children, or null if the deadline passed during the level
+     */
+    private Map<Long, Node> expandLevel(List<Node> beam, RotationTable brick, boolean timed, long deadline,
+                                        AtomicLong expanded) {
+        Map<Long, Node> table = new ConcurrentHashMap<>();
+        try {
+            boolean completed = pool.submit(() -> IntStream.range(0, beam.size()).parallel()
+                    .allMatch(rank -> expand(beam.get(rank), rank, brick, timed, deadline, table, expanded))).get();
+            return completed ? table : null;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Beam search failed", exception.getCause());
+        }
+    }
+
+    /**
+     * Places the brick on one parent board in every reachable way. Children are ordered by parent rank, then
+     * generation order, and ties on score keep the earlier child, so the result does not depend on scheduling.
+     */
+    private boolean expand(Node parent, int rank, RotationTable brick, boolean timed, long deadline,
+                           Map<Long, Node> table, AtomicLong expanded) {
+        AiBoard board = parent.board;
+        int children = 0;
+        for (int rotation = 0; rotation < brick.getRotationCount(); rotation++) {
+            long[] shapeRows = brick.getRowMasks(rotation);
+            if (!board.fitsAtSpawn(shapeRows)) {
+                break;
+            }
+            if (timed && System.nanoTime() - deadline > 0) {
+                expanded.addAndGet(children);
+                return false;
+            }
+            int minX = board.reachableX(shapeRows, -1);
+            int maxX = board.reachableX(shapeRows, 1);
+            for (int x = minX; x <= maxX; x++) {
+                AiBoard child = board.emptyCopy();
+                child.copyFrom(board);
+                int y = child.dropRow(shapeRows, x, board.getSpawnY());
+                int lines = parent.lines + child.place(shapeRows, x, y);
+                long order = (long) rank << 32 | children;
+                Node node = new Node(child, parent, new Placement(rotation, x), lines, evaluator.evaluate(child, lines), order);
+                table.merge(child.hash(), node, (kept, candidate) -> BEST_FIRST.compare(candidate, kept) < 0 ? candidate : kept);
+                children++;
+            }
+        }
+        expanded.addAndGet(children);
+        return true;
+    }
+
+    /**
+     * Board in the search tree, linked to its parent so the line leading to it can be rebuilt.
+     */
+    private static final class Node {
+        private final AiBoard board;
+        private final Node parent;
+        private final Placement placement;
+        private final int lines;
+        private final double score;
+        private final long order;
+
+        private Node(AiBoard board, Node parent, Placement placement, int lines, double score, long order) {
+            this.board = board;
+            this.parent = parent;
+            this.placement = placement;
+            this.lines = lines;
+            this.score = score;
+            this.order = order;
+        }
+
+        private List<Placement> line() {
+            List<Placement> placements = new ArrayList<>();
+            for (Node node = this; node.placement != null; node = node.parent) {
+                placements.add(0, node.placement);
+            }
+            return placements;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.comp2042.ai;
+
+/**
+ * One feature of a board reached by a placement, weighted by a {@link WeightedEvaluator}.
+ * Implementations must not allocate, since they run for every candidate placement.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Measures the feature.
+     *
+     * @param board board after the placement, with completed rows already removed
+     * @param linesCleared rows cleared by the placement (and by any lookahead placements)
+     * @return feature value
+     */
+    double evaluate(AiBoard board, int linesCleared);
+}
@@ -0,0 +1,26 @@
+package com.comp2042.ai;
+
+/**
+ * Standard board features for the placement search.
+ */
+public final class Heuristics {
+
+    /** Empty cells covered by a filled cell in the same column. */
+    public static final Heuristic HOLES = (board, linesCleared) -> board.countHoles();
+
+    /** Sum of all column heights. */
+    public static final Heuristic AGGREGATE_HEIGHT = (board, linesCleared) -> board.aggregateHeight();
+
+    /** Sum of height differences between neighbouring columns. */
+    public static final Heuristic BUMPINESS = (board, linesCleared) -> board.bumpiness();
+
+    /** Rows cleared by the placement. */
+    public static final Heuristic LINES_CLEARED = (board, linesCleared) -> linesCleared;
+
+    /** Height of the tallest column. */
+    public static final Heuristic MAX_HEIGHT = (board, linesCleared) -> board.maxHeight();
+
+    private Heuristics() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+}
@@ -0,0 +1,333 @@
+package com.comp2042.ai;
+
+import com.comp2042.EventType;
+import com.comp2042.logic.bricks.RotationTable;
+
+/**
+ * Finds every position where a brick can lock, together with the shortest sequence of inputs that gets it
+ * there, by a breadth-first search over {@code (x, y, rotation)} states. Moves follow the rules of
+ * {@link com.comp2042.SimpleBoard}: left, right and down move one cell, rotation steps to the next rotation
+ * index in place with no wall kicks, and any move that collides with a wall, the floor or a filled cell is
+ * not allowed. Every path ends with a {@link EventType#HARD_DROP} from the state with the shortest path
+ * whose landing row is the lock position.
+ *
+ * <p>Unlike dropping each rotation straight down from every column it can reach at the spawn row, the search
+ * also finds tucks under overhangs and placements reached by sliding along the stack, and never returns a
+ * placement whose path would be blocked. The visited and lock sets are bitsets over a dense state index, and
+ * the queue, parent, move and landing arrays are preallocated, so a search allocates nothing unless a brick
+ * is larger than any seen before. Instances are not thread-safe; give each thread its own.
+ */
+public final class MoveGenerator {
+
+    private static final EventType[] MOVES = EventType.values();
+    private static final int BOX_SIZE = 4;
+    private static final int MAX_ROTATIONS = 4;
+    private static final int NO_PARENT = -1;
+
+    private final int width;
+    private final int height;
+    private final int spawnX;
+    private final int spawnY;
+
+    private long[] visited;
+    private long[] locked;
+    private int[] queue;
+    private int[] parents;
+    private byte[] parentMoves;
+    private int[] depths;
+    private int[] landingRows;
+    private int[] landingGenerations;
+    private int[] lockIndexes;
+    private int[] lockStates;
+    private int[] lockSources;
+    private int generation;
+    private int visitedCount;
+    private int lockCount;
+
+    private AiBoard board;
+    private RotationTable brick;
+    private int rotationCount;
+    private int minX;
+    private int minY;
+    private int spanX;
+    private int spanY;
+
+    /**
+     * Constructor to create a generator for boards of the size and spawn point of the given board.
+     *
+     * @param template board whose size and spawn point are used; its contents are ignored
+     */
+    public MoveGenerator(AiBoard template) {
+        this.width = template.getWidth();
+        this.height = template.getHeight();
+        this.spawnX = template.getSpawnX();
+        this.spawnY = template.getSpawnY();
+        allocate(MAX_ROTATIONS * (width + BOX_SIZE) * (height + BOX_SIZE));
+    }
+
+    /**
+     * Searches the lock positions of a brick entering at the spawn point in its first rotation.
+     *
+     * @param board board without the falling brick
+     * @param brick rotation table of the brick
+     * @return number of lock positions found; none if the brick does not fit at the spawn point
+     */
+    public int generate(AiBoard board, RotationTable brick) {
+        return generate(board, brick, spawnX, spawnY, 0);
+    }
+
+    /**
+     * Searches the lock positions of a brick from its current position, e.g. for a hint mid-fall.
+     *
+     * @param board board without the falling brick
+     * @param brick rotation table of the brick
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @param rotation brick rotation index
+     * @return number of lock positions found; none if the brick collides where it is
+     */
+    public int generate(AiBoard board, RotationTable brick, int x, int y, int rotation) {
+        clear();
+        this.board = board;
+        this.brick = brick;
+        if (board.collides(brick.getRowMasks(rotation), x, y)) {
+            return 0;
+        }
+        setBounds(y);
+        visit(index(x, y, rotation), NO_PARENT, null, 0);
+        for (int head = 0; head < visitedCount; head++) {
+            int state = queue[head];
+            int stateX = stateX(state);
+            int stateY = stateY(state);
+            int stateRotation = stateRotation(state);
+            long[] shapeRows = brick.getRowMasks(stateRotation);
+            int depth = depths[state] + 1;
+            recordLock(state, index(stateX, landingRow(shapeRows, stateX, stateY, stateRotation), stateRotation));
+
+            int nextRotation = (stateRotation + 1) % rotationCount;
+            tryMove(state, EventType.ROTATE, brick.getRowMasks(nextRotation), stateX, stateY, nextRotation, depth);
+            tryMove(state, EventType.LEFT, shapeRows, stateX - 1, stateY, stateRotation, depth);
+            tryMove(state, EventType.RIGHT, shapeRows, stateX + 1, stateY, stateRotation, depth);
+            tryMove(state, EventType.DOWN, shapeRows, stateX, stateY + 1, stateRotation, depth);
+        }
+        return lockCount;
+    }
+
+    /**
+     * Gets the number of lock positions found by the last search.
+     *
+     * @return lock position count
+     */
+    public int getLockCount() {
+        return lockCount;
+    }
+
+    /**
+     * Gets the X coordinate of a lock position.
+     *
+     * @param lock lock position index, below {@link #getLockCount()}
+     * @return brick X coordinate
+     */
+    public int getLockX(int lock) {
+        return stateX(lockStates[lock]);
+    }
+
+    /**
+     * Gets the Y coordinate of a lock position.
+     *
+     * @param lock lock position index, below {@link #getLockCount()}
+     * @return brick Y coordinate
+     */
+    public int getLockY(int lock) {
+        return stateY(lockStates[lock]);
+    }
+
+    /**
+     * Gets the rotation index of a lock position.
+     *
+     * @param lock lock position index, below {@link #getLockCount()}
+     * @return rotation index
+     */
+    public int getLockRotation(int lock) {
+        return stateRotation(lockStates[lock]);
+    }
+
+    /**
+     * Gets the number of inputs in the shortest path to a lock position, including the final hard drop.
+     *
+     * @param lock lock position index, below {@link #getLockCount()}
+     * @return path length
+     */
+    public int getPathLength(int lock) {
+        return depths[lockSources[lock]] + 1;
+    }
+
+    /**
+     * Writes the shortest input path to a lock position, ending with {@link EventType#HARD_DROP}.
+     *
+     * @param lock lock position index, below {@link #getLockCount()}
+     * @param path array receiving the inputs, at least {@link #getPathLength(int)} long
+     * @return path length
+     */
+    public int getPath(int lock, EventType[] path) {
+        int length = getPathLength(lock);
+        path[length - 1] = EventType.HARD_DROP;
+        for (int state = lockSources[lock], i = length - 2; parents[state] != NO_PARENT; state = parents[state]) {
+            path[i--] = MOVES[parentMoves[state]];
+        }
+        return length;
+    }
+
+    /**
+     * Looks up the lock position with the given coordinates.
+     *
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @param rotation rotation index
+     * @return lock position index, or -1 if the last search did not reach it
+     */
+    public int findLock(int x, int y, int rotation) {
+        if (board == null || rotation < 0 || rotation >= rotationCount
+                || x < minX || x >= minX + spanX || y < minY || y >= minY + spanY) {
+            return -1;
+        }
+        int state = index(x, y, rotation);
+        return isSet(locked, state) ? lockIndexes[state] : -1;
+    }
+
+    private void tryMove(int parent, EventType move, long[] shapeRows, int x, int y, int rotation, int depth) {
+        // Colliding targets are outside the index bounds too, so check them before indexing
+        if (board.collides(shapeRows, x, y)) {
+            return;
+        }
+        int state = index(x, y, rotation);
+        if (!isSet(visited, state)) {
+            visit(state, parent, move, depth);
+        }
+    }
+
+    private void visit(int state, int parent, EventType move, int depth) {
+        set(visited, state);
+        parents[state] = parent;
+        parentMoves[state] = (byte) (move == null ? 0 : move.ordinal());
+        depths[state] = depth;
+        queue[visitedCount++] = state;
+    }
+
+    /**
+     * States are dequeued in order of path length, so the first state found to land on a lock position has
+     * the shortest path to it.
+     */
+    private void recordLock(int source, int lockState) {
+        if (isSet(locked, lockState)) {
+            return;
+        }
+        set(locked, lockState);
+        lockIndexes[lockState] = lockCount;
+        lockStates[lockCount] = lockState;
+        lockSources[lockCount] = source;
+        lockCount++;
+    }
+
+    /**
+     * Finds where a brick lands when dropped from a free state. Landing rows are remembered for this search,
+     * so every state below a visited one in the same column and rotation is stepped through at most once.
+     */
+    private int landingRow(long[] shapeRows, int x, int y, int rotation) {
+        int row = y;
+        int landing = -1;
+        while (landing < 0) {
+            int state = index(x, row, rotation);
+            if (landingGenerations[state] == generation) {
+                landing = landingRows[state];
+            } else if (board.collides(shapeRows, x, row + 1)) {
+                landing = row;
+            } else {
+                row++;
+            }
+        }
+        for (int fill = y; fill <= row; fill++) {
+            int state = index(x, fill, rotation);
+            landingRows[state] = landing;
+            landingGenerations[state] = generation;
+        }
+        return landing;
+    }
+
+    /**
+     * Sizes the state index to the positions the brick can occupy: rotation keeps the row and no move goes up,
+     * so rows start at the starting row.
+     */
+    private void setBounds(int startY) {
+        rotationCount = brick.getRotationCount();
+        int lowX = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE;
+        int highY = Integer.MIN_VALUE;
+        for (int rotation = 0; rotation < rotationCount; rotation++) {
+            lowX = Math.min(lowX, -brick.getMinColumn(rotation));
+            highX = Math.max(highX, width - 1 - brick.getMaxColumn(rotation));
+            highY = Math.max(highY, height - 1 - brick.getMaxRow(rotation));
+        }
+        minX = lowX;
+        minY = startY;
+        spanX = highX - lowX + 1;
+        spanY = Math.max(1, highY - startY + 1);
+        int states = rotationCount * spanX * spanY;
+        if (states > parents.length) {
+            allocate(states);
+        }
+    }
+
+    private void allocate(int states) {
+        visited = new long[(states + Long.SIZE - 1) / Long.SIZE];
+        locked = new long[visited.length];
+        queue = new int[states];
+        parents = new int[states];
+        parentMoves = new byte[states];
+        depths = new int[states];
+        landingRows = new int[states];
+        landingGenerations = new int[states];
+        lockIndexes = new int[states];
+        lockStates = new int[states];
+        lockSources = new int[states];
+    }
+
+    /**
+     * Forgets the last search by clearing only the bits it set.
+     */
+    private void clear() {
+        for (int i = 0; i < visitedCount; i++) {
+            visited[queue[i] / Long.SIZE] = 0L;
+        }
+        for (int i = 0; i < lockCount; i++) {
+            locked[lockStates[i] / Long.SIZE] = 0L;
+        }
+        visitedCount = 0;
+        lockCount = 0;
+        generation++;
+    }
+
+    private int index(int x, int y, int rotation) {
+        return (rotation * spanY + (y - minY)) * spanX + (x - minX);
+    }
+
+    private int stateX(int state) {
+        return state % spanX + minX;
+    }
+
+    private int stateY(int state) {
+        return state / spanX % spanY + minY;
+    }
+
+    private int stateRotation(int state) {
+        return state / (spanX * spanY);
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index / Long.SIZE] & (1L << index)) != 0L;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index / Long.SIZE] |= 1L << index;
+    }
+}
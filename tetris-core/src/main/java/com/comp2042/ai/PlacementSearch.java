@@ -0,0 +1,124 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.sim.Placement;
+
+/**
+ * Finds the best placement for the current brick by trying every reachable rotation and column,
+ * optionally followed by every placement of the next brick, and scoring the resulting boards with a
+ * {@link WeightedEvaluator}.
+ *
+ * <p>A placement is reachable the way {@link com.comp2042.sim.GameSimulator} plays it: rotate at the
+ * spawn position, shift sideways one column at a time, then drop. Candidate boards are preallocated
+ * per search depth, so a search allocates only the returned {@link Placement}. Instances are not
+ * thread-safe; give each thread its own.
+ */
+public final class PlacementSearch {
+
+    private final WeightedEvaluator evaluator;
+    private final boolean useNextBrick;
+    private final AiBoard afterCurrent;
+    private final AiBoard afterNext;
+    private long evaluatedPlacements;
+
+    /**
+     * Constructor to create a search for boards of the given size.
+     *
+     * @param evaluator board evaluator
+     * @param useNextBrick true to also place the next brick before evaluating
+     * @param width board width
+     * @param height board height
+     */
+    public PlacementSearch(WeightedEvaluator evaluator, boolean useNextBrick, int width, int height) {
+        this(evaluator, useNextBrick, new AiBoard(width, height));
+    }
+
+    /**
+     * Constructor to create a search for boards of the size and spawn point of the given board.
+     *
+     * @param evaluator board evaluator
+     * @param useNextBrick true to also place the next brick before evaluating
+     * @param template board whose size and spawn point are used; its contents are ignored
+     */
+    public PlacementSearch(WeightedEvaluator evaluator, boolean useNextBrick, AiBoard template) {
+        this.evaluator = evaluator;
+        this.useNextBrick = useNextBrick;
+        this.afterCurrent = template.emptyCopy();
+        this.afterNext = template.emptyCopy();
+    }
+
+    /**
+     * Finds the best placement of the current brick.
+     *
+     * @param board board without the falling brick
+     * @param current rotation table of the current brick
+     * @param next rotation table of the next brick, or null to ignore it
+     * @return best placement, or null if the brick cannot be placed at all
+     */
+    public Placement findBest(AiBoard board, RotationTable current, RotationTable next) {
+        boolean lookahead = useNextBrick && next != null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestRotation = -1;
+        int bestX = 0;
+        for (int rotation = 0; rotation < current.getRotationCount(); rotation++) {
+            long[] shapeRows = current.getRowMasks(rotation);
+            if (!board.fitsAtSpawn(shapeRows)) {
+                // Rotations are reached one after another, so later ones are blocked too
+                break;
+            }
+            int minX = board.reachableX(shapeRows, -1);
+            int maxX = board.reachableX(shapeRows, 1);
+            for (int x = minX; x <= maxX; x++) {
+                afterCurrent.copyFrom(board);
+                int y = afterCurrent.dropRow(shapeRows, x, board.getSpawnY());
+                int lines = afterCurrent.place(shapeRows, x, y);
+                double score = lookahead
+                        ? bestFollowUp(afterCurrent, next, lines)
+                        : evaluate(afterCurrent, lines);
+                if (bestRotation < 0 || score > bestScore) {
+                    bestScore = score;
+                    bestRotation = rotation;
+                    bestX = x;
+                }
+            }
+        }
+        return bestRotation < 0 ? null : new Placement(bestRotation, bestX);
+    }
+
+    /**
+     * Gets the number of boards evaluated since this search was created.
+     *
+     * @return evaluated placement count
+     */
+    public long getEvaluatedPlacements() {
+        return evaluatedPlacements;
+    }
+
+    /**
+     * Scores a board by the best placement of the next brick on it, or negative infinity if the
+     * next brick could not spawn.
+     */
+    private double bestFollowUp(AiBoard board, RotationTable next, int linesSoFar) {
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int rotation = 0; rotation < next.getRotationCount(); rotation++) {
+            long[] shapeRows = next.getRowMasks(rotation);
+            if (!board.fitsAtSpawn(shapeRows)) {
+                break;
+            }
+            int minX = board.reachableX(shapeRows, -1);
+            int maxX = board.reachableX(shapeRows, 1);
+            for (int x = minX; x <= maxX; x++) {
+                afterNext.copyFrom(board);
+                int y = afterNext.dropRow(shapeRows, x, board.getSpawnY());
+                int lines = afterNext.place(shapeRows, x, y);
+                bestScore = Math.max(bestScore, evaluate(afterNext, linesSoFar + lines));
+            }
+        }
+        return bestScore;
+    }
+
+    private double evaluate(AiBoard board, int linesCleared) {
+        evaluatedPlacements++;
+        return evaluator.evaluate(board, linesCleared);
+    }
+}
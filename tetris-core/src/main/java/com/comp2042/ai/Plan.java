@@ -0,0 +1,86 @@
+package com.comp2042.ai;
+
+import com.comp2042.sim.Placement;
+
+import java.util.List;
+
+/**
+ * Result of a {@link BeamSearchPlanner} search: the best line of placements found, one per searched
+ * brick starting with the current one, and how far the search got within its time budget.
+ */
+public final class Plan {
+
+    private final List<Placement> placements;
+    private final double score;
+    private final long expandedBoards;
+    private final boolean timedOut;
+
+    /**
+     * Constructor to create a plan.
+     *
+     * @param placements placements of the best line, current brick first
+     * @param score evaluation of the board at the end of the line
+     * @param expandedBoards number of candidate boards generated
+     * @param timedOut true if the time budget ended the search before the last brick
+     */
+    public Plan(List<Placement> placements, double score, long expandedBoards, boolean timedOut) {
+        this.placements = List.copyOf(placements);
+        this.score = score;
+        this.expandedBoards = expandedBoards;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Gets the placements of the best line.
+     *
+     * @return unmodifiable list, current brick first; empty if the current brick cannot be placed
+     */
+    public List<Placement> getPlacements() {
+        return placements;
+    }
+
+    /**
+     * Gets the placement to play now.
+     *
+     * @return first placement, or null if the current brick cannot be placed
+     */
+    public Placement getFirstPlacement() {
+        return placements.isEmpty() ? null : placements.get(0);
+    }
+
+    /**
+     * Gets the number of bricks the line covers.
+     *
+     * @return search depth reached
+     */
+    public int getDepth() {
+        return placements.size();
+    }
+
+    /**
+     * Gets the evaluation of the board at the end of the line.
+     *
+     * @return score
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of candidate boards generated by the search.
+     *
+     * @return expanded board count
+     */
+    public long getExpandedBoards() {
+        return expandedBoards;
+    }
+
+    /**
+     * Indicates whether the time budget cut the search short.
+     *
+     * @return true if the search timed out
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
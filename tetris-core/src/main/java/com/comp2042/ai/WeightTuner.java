@@ -0,0 +1,377 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.sim.GameSimulator;
+import com.comp2042.util.PersistenceWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Command-line tool that evolves the weights of a {@link WeightedEvaluator} with a genetic algorithm.
+ *
+ * <p>Each generation every candidate weight vector plays the same set of seeded games with an
+ * {@link AiMovePolicy}, and its fitness is the mean number of cleared lines. All (candidate, game) pairs
+ * run as one flat batch on a {@link ForkJoinPool}; each pair builds its own board and policy and writes its
+ * result into its own array slot, so workers share no locks or mutable state. The fittest candidates are
+ * then bred by tournament selection, fitness-weighted crossover and occasional mutation, and the offspring
+ * replace the weakest part of the population. Weight vectors are kept at unit length, since only their
+ * direction changes which placement scores best.
+ *
+ * <p>After every generation the population is checkpointed atomically, and a row of best, mean and worst
+ * fitness is added to a CSV convergence curve. Starting the tool with an existing checkpoint resumes the run.
+ * Every random choice is derived from the base seed and generation number, and the checkpoint stores the
+ * weights bit for bit, so a resumed run continues exactly as an uninterrupted one would. The checkpoint also
+ * records the run settings, and resuming with different ones is refused.
+ * <p>
+ * Usage: {@code WeightTuner [--population N] [--games G] [--generations K] [--max-pieces M] [--seed S]
+ * [--threads T] [--mode uniform|seven_bag] [--lookahead true|false] [--checkpoint FILE] [--curve FILE]}
+ */
+public final class WeightTuner {
+
+    private static final String CHECKPOINT_HEADER = "# WeightTuner checkpoint v2";
+    private static final String CURVE_HEADER = "generation,best,mean,worst,best_weights";
+    private static final double OFFSPRING_FRACTION = 0.3;
+    private static final double TOURNAMENT_FRACTION = 0.1;
+    private static final double MUTATION_RATE = 0.05;
+    private static final double MUTATION_STEP = 0.2;
+
+    private final WeightedEvaluator template;
+    private final int gamesPerCandidate;
+    private final int maxPieces;
+    private final long baseSeed;
+    private final SeededBrickGenerator.Mode mode;
+    private final boolean lookahead;
+
+    /**
+     * Constructor to create a tuner.
+     *
+     * @param template evaluator whose heuristics are tuned; its weights are ignored
+     * @param gamesPerCandidate games played by each candidate per generation
+     * @param maxPieces maximum number of bricks per game
+     * @param baseSeed seed all game seeds and random choices are derived from
+     * @param mode brick distribution
+     * @param lookahead true to let the AI also place the next brick
+     */
+    public WeightTuner(WeightedEvaluator template, int gamesPerCandidate, int maxPieces, long baseSeed,
+                       SeededBrickGenerator.Mode mode, boolean lookahead) {
+        this.template = template;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.baseSeed = baseSeed;
+        this.mode = mode;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Creates a random population of unit-length weight vectors.
+     *
+     * @param size number of candidates
+     * @return initial population
+     */
+    public double[][] initialPopulation(int size) {
+        SplittableRandom random = new SplittableRandom(SeededBrickGenerator.deriveSeed(baseSeed, -1));
+        double[][] population = new double[size][template.size()];
+        for (double[] candidate : population) {
+            for (int i = 0; i < candidate.length; i++) {
+                candidate[i] = random.nextDouble(-1, 1);
+            }
+            normalize(candidate);
+        }
+        return population;
+    }
+
+    /**
+     * Plays every candidate's games of one generation on the pool.
+     * All candidates play the same game seeds, so their fitness differs only because of their weights.
+     *
+     * @param population candidate weight vectors
+     * @param generation generation number, which selects the game seeds
+     * @param pool pool the games run on
+     * @return mean cleared lines per candidate
+     */
+    public double[] evaluate(double[][] population, int generation, ForkJoinPool pool) {
+        int games = gamesPerCandidate;
+        int[] lines = new int[population.length * games];
+        try {
+            pool.submit(() -> IntStream.range(0, lines.length).parallel().forEach(task -> {
+                long gameSeed = SeededBrickGenerator.deriveSeed(baseSeed, (long) generation * games + task % games);
+                AiMovePolicy policy = new AiMovePolicy(template.withWeights(population[task / games]), lookahead);
+                lines[task] = GameSimulator.playGame(gameSeed, mode, policy, maxPieces).getLinesCleared();
+            })).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tuning interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Tuning failed", exception.getCause());
+        }
+        double[] fitness = new double[population.length];
+        for (int task = 0; task < lines.length; task++) {
+            fitness[task / games] += lines[task];
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] /= games;
+        }
+        return fitness;
+    }
+
+    /**
+     * Breeds the next generation: offspring of tournament winners replace the weakest candidates.
+     *
+     * @param population current candidates
+     * @param fitness fitness of each candidate
+     * @param generation current generation number, which seeds the random choices
+     * @return next population, sorted from fittest parent to newest offspring
+     */
+    public double[][] breed(double[][] population, double[] fitness, int generation) {
+        SplittableRandom random = new SplittableRandom(SeededBrickGenerator.deriveSeed(baseSeed, -2L - generation));
+        Integer[] ranking = rank(fitness);
+        int offspringCount = Math.max(1, (int) (population.length * OFFSPRING_FRACTION));
+        int tournamentSize = Math.max(2, (int) (population.length * TOURNAMENT_FRACTION));
+        double[][] next = new double[population.length][];
+        int survivors = population.length - offspringCount;
+        for (int i = 0; i < survivors; i++) {
+            next[i] = population[ranking[i]].clone();
+        }
+        for (int i = survivors; i < next.length; i++) {
+            int[] parents = tournament(fitness, tournamentSize, random);
+            next[i] = crossover(population[parents[0]], fitness[parents[0]],
+                    population[parents[1]], fitness[parents[1]]);
+            if (random.nextDouble() < MUTATION_RATE) {
+                next[i][random.nextInt(next[i].length)] += random.nextDouble(-MUTATION_STEP, MUTATION_STEP);
+            }
+            normalize(next[i]);
+        }
+        return next;
+    }
+
+    /**
+     * Runs generations until the target count, resuming from the checkpoint if it exists.
+     *
+     * @param populationSize number of candidates
+     * @param generations generation to stop at
+     * @param threads worker thread count
+     * @param checkpoint file holding the population between generations
+     * @param curve CSV file receiving one row per generation
+     * @throws IOException if the checkpoint or curve cannot be read or written, or the checkpoint was
+     *                     written by a run with different settings
+     */
+    public void run(int populationSize, int generations, int threads, Path checkpoint, Path curve) throws IOException {
+        String settings = describeSettings(populationSize);
+        int generation = 0;
+        double[][] population;
+        if (Files.exists(checkpoint)) {
+            List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+            if (lines.size() < 3 || !lines.get(0).equals(CHECKPOINT_HEADER)) {
+                throw new IOException("Not a WeightTuner checkpoint: " + checkpoint);
+            }
+            if (!lines.get(1).equals(settings)) {
+                throw new IOException("Checkpoint " + checkpoint + " was written with different settings ("
+                        + lines.get(1) + "), expected " + settings);
+            }
+            generation = Integer.parseInt(lines.get(2).trim());
+            population = new double[lines.size() - 3][];
+            for (int i = 0; i < population.length; i++) {
+                population[i] = parseWeights(lines.get(i + 3));
+            }
+            System.out.println("Resuming at generation " + generation + " from " + checkpoint);
+        } else {
+            population = initialPopulation(populationSize);
+        }
+        trimCurve(curve, generation);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (; generation < generations; generation++) {
+                long start = System.nanoTime();
+                double[] fitness = evaluate(population, generation, pool);
+                Integer[] ranking = rank(fitness);
+                double best = fitness[ranking[0]];
+                double worst = fitness[ranking[ranking.length - 1]];
+                double mean = Arrays.stream(fitness).average().orElse(0);
+                String bestWeights = formatWeights(population[ranking[0]]);
+
+                population = breed(population, fitness, generation);
+                writeCheckpoint(checkpoint, settings, generation + 1, population);
+                Files.writeString(curve, String.format(Locale.ROOT, "%d,%.3f,%.3f,%.3f,%s%n",
+                        generation, best, mean, worst, bestWeights.replace(',', ' ')),
+                        StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                System.out.printf(Locale.ROOT, "generation %d: best %.2f, mean %.2f, worst %.2f lines (%.1f s) %s%n",
+                        generation, best, mean, worst, (System.nanoTime() - start) / 1e9, bestWeights);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Integer[] rank(double[] fitness) {
+        Integer[] ranking = new Integer[fitness.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        return ranking;
+    }
+
+    /**
+     * Picks the two fittest of a random subset of the population.
+     */
+    private static int[] tournament(double[] fitness, int size, SplittableRandom random) {
+        int first = -1;
+        int second = -1;
+        for (int i = 0; i < size; i++) {
+            int candidate = random.nextInt(fitness.length);
+            if (first < 0 || fitness[candidate] > fitness[first]) {
+                second = first;
+                first = candidate;
+            } else if (second < 0 || fitness[candidate] > fitness[second]) {
+                second = candidate;
+            }
+        }
+        return new int[] {first, second};
+    }
+
+    /**
+     * Averages two parents, each weighted by its fitness.
+     */
+    private static double[] crossover(double[] a, double fitnessA, double[] b, double fitnessB) {
+        double total = fitnessA + fitnessB;
+        double shareA = total > 0 ? fitnessA / total : 0.5;
+        double[] child = new double[a.length];
+        for (int i = 0; i < child.length; i++) {
+            child[i] = a[i] * shareA + b[i] * (1 - shareA);
+        }
+        return child;
+    }
+
+    private static void normalize(double[] weights) {
+        double length = 0;
+        for (double weight : weights) {
+            length += weight * weight;
+        }
+        length = Math.sqrt(length);
+        if (length > 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] /= length;
+            }
+        }
+    }
+
+    /**
+     * Describes every setting that changes the course of a run, as stored in the checkpoint.
+     */
+    private String describeSettings(int populationSize) {
+        return String.format(Locale.ROOT, "population=%d games=%d max-pieces=%d seed=%d mode=%s lookahead=%b",
+                populationSize, gamesPerCandidate, maxPieces, baseSeed, mode, lookahead);
+    }
+
+    /**
+     * Writes the population with weights as hexadecimal doubles, so they are read back unrounded.
+     */
+    private static void writeCheckpoint(Path checkpoint, String settings, int generation, double[][] population)
+            throws IOException {
+        StringBuilder content = new StringBuilder(CHECKPOINT_HEADER).append('\n')
+                .append(settings).append('\n')
+                .append(generation).append('\n');
+        for (double[] candidate : population) {
+            for (int i = 0; i < candidate.length; i++) {
+                if (i > 0) {
+                    content.append(',');
+                }
+                content.append(Double.toHexString(candidate[i]));
+            }
+            content.append('\n');
+        }
+        PersistenceWriter.writeAtomically(checkpoint, ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Drops curve rows from generations the checkpoint does not include, e.g. after a crash between the
+     * checkpoint and the curve write, and writes the header for a fresh curve.
+     */
+    private static void trimCurve(Path curve, int generation) throws IOException {
+        List<String> kept = new ArrayList<>();
+        kept.add(CURVE_HEADER);
+        if (Files.exists(curve)) {
+            for (String line : Files.readAllLines(curve, StandardCharsets.UTF_8)) {
+                int comma = line.indexOf(',');
+                if (comma > 0 && !line.equals(CURVE_HEADER) && Integer.parseInt(line.substring(0, comma)) < generation) {
+                    kept.add(line);
+                }
+            }
+        }
+        Files.write(curve, kept, StandardCharsets.UTF_8);
+    }
+
+    private static String formatWeights(double[] weights) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < weights.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(String.format(Locale.ROOT, "%.6f", weights[i]));
+        }
+        return text.toString();
+    }
+
+    private static double[] parseWeights(String line) {
+        String[] parts = line.trim().split(",");
+        double[] weights = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = Double.parseDouble(parts[i]);
+        }
+        return weights;
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int populationSize = 100;
+        int games = 20;
+        int generations = 50;
+        int maxPieces = 500;
+        long seed = 42L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        SeededBrickGenerator.Mode mode = SeededBrickGenerator.Mode.UNIFORM;
+        boolean lookahead = false;
+        Path checkpoint = Path.of("weight-tuner.ckpt");
+        Path curve = Path.of("weight-tuner.csv");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--population" -> populationSize = Integer.parseInt(args[i + 1]);
+                case "--games" -> games = Integer.parseInt(args[i + 1]);
+                case "--generations" -> generations = Integer.parseInt(args[i + 1]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--mode" -> mode = SeededBrickGenerator.Mode.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                case "--lookahead" -> lookahead = Boolean.parseBoolean(args[i + 1]);
+                case "--checkpoint" -> checkpoint = Path.of(args[i + 1]);
+                case "--curve" -> curve = Path.of(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        WeightTuner tuner = new WeightTuner(WeightedEvaluator.standard(), games, maxPieces, seed, mode, lookahead);
+        try {
+            tuner.run(populationSize, generations, threads, checkpoint, curve);
+        } catch (IOException exception) {
+            System.err.println("Weight tuning failed: " + exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.comp2042.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scores a board as the weighted sum of a set of {@link Heuristic}s; higher is better.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class WeightedEvaluator {
+
+    private final Heuristic[] heuristics;
+    private final double[] weights;
+
+    private WeightedEvaluator(Heuristic[] heuristics, double[] weights) {
+        this.heuristics = heuristics;
+        this.weights = weights;
+    }
+
+    /**
+     * Creates the default evaluator over holes, aggregate height, bumpiness and lines cleared,
+     * with weights from a well-known hand-tuned line-clearing player.
+     *
+     * @return standard evaluator
+     */
+    public static WeightedEvaluator standard() {
+        return builder()
+                .add(Heuristics.AGGREGATE_HEIGHT, -0.510066)
+                .add(Heuristics.LINES_CLEARED, 0.760666)
+                .add(Heuristics.HOLES, -0.35663)
+                .add(Heuristics.BUMPINESS, -0.184483)
+                .build();
+    }
+
+    /**
+     * Creates a new builder instance.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Scores a board.
+     *
+     * @param board board after the placement
+     * @param linesCleared rows cleared on the way to this board
+     * @return weighted score
+     */
+    public double evaluate(AiBoard board, int linesCleared) {
+        double score = 0;
+        for (int i = 0; i < heuristics.length; i++) {
+            score += weights[i] * heuristics[i].evaluate(board, linesCleared);
+        }
+        return score;
+    }
+
+    /**
+     * Creates an evaluator with the same heuristics and different weights.
+     *
+     * @param newWeights one weight per heuristic, in the order they were added
+     * @return new evaluator
+     */
+    public WeightedEvaluator withWeights(double[] newWeights) {
+        if (newWeights.length != heuristics.length) {
+            throw new IllegalArgumentException("Expected " + heuristics.length + " weights, got " + newWeights.length);
+        }
+        return new WeightedEvaluator(heuristics, newWeights.clone());
+    }
+
+    /**
+     * Gets a copy of the weights, in the order the heuristics were added.
+     *
+     * @return weights
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Gets the number of heuristics.
+     *
+     * @return heuristic count
+     */
+    public int size() {
+        return heuristics.length;
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedEvaluator" + Arrays.toString(weights);
+    }
+
+    /**
+     * Builder class for constructing WeightedEvaluator instances.
+     */
+    public static final class Builder {
+        private final List<Heuristic> heuristics = new ArrayList<>();
+        private final List<Double> weights = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a heuristic with its weight.
+         *
+         * @param heuristic board feature
+         * @param weight multiplier; negative for features to minimise
+         * @return this builder
+         */
+        public Builder add(Heuristic heuristic, double weight) {
+            heuristics.add(heuristic);
+            weights.add(weight);
+            return this;
+        }
+
+        /**
+         * Builds the WeightedEvaluator instance.
+         *
+         * @return WeightedEvaluator instance
+         */
+        public WeightedEvaluator build() {
+            double[] weightArray = new double[weights.size()];
+            for (int i = 0; i < weightArray.length; i++) {
+                weightArray[i] = weights.get(i);
+            }
+            return new WeightedEvaluator(heuristics.toArray(new Heuristic[0]), weightArray);
+        }
+    }
+}
@@ -9,9 +9,17 @@ import java.util.List;
 public interface Brick {
 
     /**
-     * Gets the shape matrix containing all rotation states of the brick.
+     * Gets a copy of the shape matrix containing all rotation states of the brick.
      *
      * @return list of two-dimensional arrays, each representing a rotation state
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the shared, precomputed rotation table of this brick type.
+     * Unlike {@link #getShapeMatrix()} this does not copy any matrices.
+     *
+     * @return rotation table
+     */
+    RotationTable getRotationTable();
 }
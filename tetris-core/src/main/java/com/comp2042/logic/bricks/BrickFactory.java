@@ -0,0 +1,151 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameConstants;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Factory class that creates brick instances based on their simple type names.
+ * The seven standard bricks are always known; further piece types can be added at runtime with
+ * {@link #register(Brick)} and then used in a {@link com.comp2042.GameConfig} piece set.
+ */
+public final class BrickFactory {
+
+    private static final Map<String, Supplier<Brick>> REGISTRY = new ConcurrentHashMap<>();
+    private static final List<String> TYPE_CODES = new CopyOnWriteArrayList<>();
+
+    private static final List<Brick> STANDARD_BRICKS = List.of(
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick());
+
+    static {
+        REGISTRY.put(IBrick.class.getSimpleName(), IBrick::new);
+        REGISTRY.put(JBrick.class.getSimpleName(), JBrick::new);
+        REGISTRY.put(LBrick.class.getSimpleName(), LBrick::new);
+        REGISTRY.put(OBrick.class.getSimpleName(), OBrick::new);
+        REGISTRY.put(SBrick.class.getSimpleName(), SBrick::new);
+        REGISTRY.put(TBrick.class.getSimpleName(), TBrick::new);
+        REGISTRY.put(ZBrick.class.getSimpleName(), ZBrick::new);
+        for (Brick brick : STANDARD_BRICKS) {
+            TYPE_CODES.add(getTypeName(brick));
+        }
+    }
+
+    private BrickFactory() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Creates a new brick instance based on the provided type name.
+     *
+     * @param typeName simple brick class name, e.g. {@code IBrick}
+     * @return brick instance
+     * @throws IllegalArgumentException if the requested type is unknown
+     */
+    public static Brick createBrick(String typeName) {
+        Supplier<Brick> supplier = REGISTRY.get(typeName);
+        if (supplier == null) {
+            throw new IllegalArgumentException("Unsupported brick type: " + typeName);
+        }
+        return supplier.get();
+    }
+
+    /**
+     * Registers an additional piece type under its simple class name. Bricks are stateless, so the given
+     * instance is dealt every time the type is requested. Registered types get the next free type code,
+     * so they must be registered in the same order before saves or replays that use them are read.
+     * Colours are taken from the shape matrices and must be standard colour indices
+     * ({@link GameConstants#COLOR_EMPTY} to {@link GameConstants#COLOR_BRICK_7}), the range the save format
+     * stores.
+     *
+     * @param brick brick of the new type
+     * @throws IllegalArgumentException if the class has no simple name, the type is already registered or a
+     *                                  cell of any rotation is not a standard colour index
+     */
+    public static synchronized void register(Brick brick) {
+        if (brick == null || brick.getClass().getSimpleName().isEmpty()) {
+            throw new IllegalArgumentException("Brick types need a named class");
+        }
+        String typeName = getTypeName(brick);
+        if (REGISTRY.containsKey(typeName)) {
+            throw new IllegalArgumentException("Brick type already registered: " + typeName);
+        }
+        checkColors(typeName, brick.getRotationTable());
+        REGISTRY.put(typeName, () -> brick);
+        TYPE_CODES.add(typeName);
+    }
+
+    /**
+     * Rejects bricks whose cells could not be saved, before they can reach a board.
+     */
+    private static void checkColors(String typeName, RotationTable rotations) {
+        for (int rotation = 0; rotation < rotations.getRotationCount(); rotation++) {
+            for (int[] row : rotations.getShape(rotation)) {
+                for (int cell : row) {
+                    if (cell < GameConstants.COLOR_EMPTY || cell > GameConstants.COLOR_BRICK_7) {
+                        throw new IllegalArgumentException("Brick type " + typeName + " uses colour " + cell
+                                + ", expected " + GameConstants.COLOR_EMPTY + " to " + GameConstants.COLOR_BRICK_7);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets shared instances of the seven standard bricks in their canonical order (I, J, L, O, S, T, Z).
+     * Bricks are stateless, so the same instances can be dealt repeatedly.
+     *
+     * @return unmodifiable list of standard bricks
+     */
+    public static List<Brick> standardBricks() {
+        return STANDARD_BRICKS;
+    }
+
+    /**
+     * Gets the compact numeric code of a brick type: its index in {@link #standardBricks()} for the standard
+     * bricks, followed by registered types in registration order.
+     * Used by the binary save and replay formats instead of storing class names.
+     *
+     * @param typeName simple brick class name
+     * @return type code; 0-6 for the standard bricks
+     * @throws IllegalArgumentException if the type is unknown
+     */
+    public static int getTypeCode(String typeName) {
+        int typeCode = TYPE_CODES.indexOf(typeName);
+        if (typeCode < 0) {
+            throw new IllegalArgumentException("Unsupported brick type: " + typeName);
+        }
+        return typeCode;
+    }
+
+    /**
+     * Gets the simple type name for a numeric code produced by {@link #getTypeCode(String)}.
+     *
+     * @param typeCode type code
+     * @return simple class name
+     * @throws IllegalArgumentException if the code is out of range
+     */
+    public static String getTypeName(int typeCode) {
+        if (typeCode < 0 || typeCode >= TYPE_CODES.size()) {
+            throw new IllegalArgumentException("Unsupported brick type code: " + typeCode);
+        }
+        return TYPE_CODES.get(typeCode);
+    }
+
+    /**
+     * Gets the simple name for the supplied brick instance.
+     *
+     * @param brick brick instance
+     * @return simple class name
+     */
+    public static String getTypeName(Brick brick) {
+        return Optional.ofNullable(brick)
+                .map(value -> value.getClass().getSimpleName())
+                .orElse("UNKNOWN");
+    }
+}
+
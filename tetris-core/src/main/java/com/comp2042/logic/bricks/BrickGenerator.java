@@ -0,0 +1,49 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * Interface for generating Tetris bricks.
+ * Provides methods to get the current brick and preview the next brick.
+ */
+public interface BrickGenerator {
+
+    /**
+     * Gets the current brick and advances to the next one.
+     *
+     * @return current brick instance
+     */
+    Brick getBrick();
+
+    /**
+     * Gets the next brick without consuming it.
+     *
+     * @return next brick instance
+     */
+    Brick getNextBrick();
+
+    /**
+     * Gets a brick further down the preview queue without consuming anything.
+     * Generators that cannot see past the next brick return null for later positions.
+     *
+     * @param ahead zero-based position in the queue; 0 is the next brick
+     * @return upcoming brick, or null if unknown
+     */
+    default Brick peekBrick(int ahead) {
+        return ahead == 0 ? getNextBrick() : null;
+    }
+
+    /**
+     * Exports the pending bricks as their simple type names for persistence.
+     *
+     * @return list of queued brick type names
+     */
+    List<String> exportQueuedBrickTypes();
+
+    /**
+     * Replaces the pending bricks with the provided list, e.g. when restoring a save.
+     *
+     * @param queuedTypes queued brick type names
+     */
+    void importQueuedBrickTypes(List<String> queuedTypes);
+}
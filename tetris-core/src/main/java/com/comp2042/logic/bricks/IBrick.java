@@ -0,0 +1,31 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+final class IBrick implements Brick {
+
+    private static final RotationTable ROTATIONS = RotationTable.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {1, 1, 1, 1},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0},
+                    {0, 1, 0, 0}
+            }
+    );
+
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ROTATIONS.copyShapes();
+    }
+
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+}
@@ -0,0 +1,25 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+final class OBrick implements Brick {
+
+    private static final RotationTable ROTATIONS = RotationTable.of(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 4, 4, 0},
+                    {0, 4, 4, 0},
+                    {0, 0, 0, 0}
+            }
+    );
+
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ROTATIONS.copyShapes();
+    }
+
+    @Override
+    public RotationTable getRotationTable() {
+        return ROTATIONS;
+    }
+}
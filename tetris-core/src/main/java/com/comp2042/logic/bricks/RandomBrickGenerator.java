@@ -1,10 +1,10 @@
 package com.comp2042.logic.bricks;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 
 /**
@@ -15,6 +15,8 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final List<Brick> brickList;
 
+    private final RandomGenerator random;
+
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
     /**
@@ -22,16 +24,43 @@ public class RandomBrickGenerator implements BrickGenerator {
      * and pre-generates initial bricks in the queue.
      */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor for a reproducible generator: the same seed always yields the same brick sequence.
+     *
+     * @param seed random seed
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructor that draws bricks from the given random source.
+     * The source is owned by this generator and must not be shared between threads.
+     *
+     * @param random random source
+     */
+    public RandomBrickGenerator(RandomGenerator random) {
+        this(random, BrickFactory.standardBricks());
+    }
+
+    /**
+     * Constructor that draws bricks of a custom piece set from the given random source.
+     *
+     * @param random random source, owned by this generator
+     * @param brickList piece types to draw from
+     * @throws IllegalArgumentException if the piece list is empty
+     */
+    public RandomBrickGenerator(RandomGenerator random, List<Brick> brickList) {
+        if (brickList.isEmpty()) {
+            throw new IllegalArgumentException("Brick list must not be empty");
+        }
+        this.random = random;
+        this.brickList = List.copyOf(brickList);
+        nextBricks.add(randomBrick());
+        nextBricks.add(randomBrick());
     }
 
     /**
@@ -56,11 +85,33 @@ public class RandomBrickGenerator implements BrickGenerator {
         return nextBricks.peek();
     }
 
+    /**
+     * Gets a brick further down the queue, drawing more bricks into the queue if needed.
+     * Bricks are drawn in the same order either way, so peeking never changes the sequence.
+     *
+     * @param ahead zero-based position in the queue; 0 is the next brick
+     * @return upcoming brick
+     */
+    @Override
+    public Brick peekBrick(int ahead) {
+        while (nextBricks.size() <= ahead) {
+            nextBricks.add(randomBrick());
+        }
+        int position = 0;
+        for (Brick brick : nextBricks) {
+            if (position++ == ahead) {
+                return brick;
+            }
+        }
+        return null;
+    }
+
     /**
      * Exports the pending bricks as their simple type names for persistence.
      *
      * @return list of queued brick type names
      */
+    @Override
     public List<String> exportQueuedBrickTypes() {
         return nextBricks.stream()
                 .map(BrickFactory::getTypeName)
@@ -72,6 +123,7 @@ public class RandomBrickGenerator implements BrickGenerator {
      *
      * @param queuedTypes queued brick type names
      */
+    @Override
     public void importQueuedBrickTypes(List<String> queuedTypes) {
         nextBricks.clear();
         if (queuedTypes == null || queuedTypes.isEmpty()) {
@@ -102,6 +154,6 @@ public class RandomBrickGenerator implements BrickGenerator {
     }
 
     private Brick randomBrick() {
-        return brickList.get(ThreadLocalRandom.current().nextInt(brickList.size()));
+        return brickList.get(random.nextInt(brickList.size()));
     }
 }
@@ -0,0 +1,238 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.util.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable table of all rotation states of one brick type, computed once per type.
+ * Besides the shape matrices it precomputes the occupied cell offsets, bounding boxes,
+ * per-row bitmasks and per-column bottom profiles of every rotation, so the game loop can
+ * query brick geometry without copying matrices.
+ * <p>
+ * Arrays returned by this class are shared between all callers and must be treated as read-only.
+ */
+public final class RotationTable {
+
+    private final int colorIndex;
+    private final int[][][] shapes;
+    private final int[][] cellColumns;
+    private final int[][] cellRows;
+    private final long[][] rowMasks;
+    private final int[][] bottomProfiles;
+    private final int[] minColumns;
+    private final int[] maxColumns;
+    private final int[] minRows;
+    private final int[] maxRows;
+
+    private RotationTable(int[][][] rotations) {
+        int count = rotations.length;
+        shapes = new int[count][][];
+        cellColumns = new int[count][];
+        cellRows = new int[count][];
+        rowMasks = new long[count][];
+        bottomProfiles = new int[count][];
+        minColumns = new int[count];
+        maxColumns = new int[count];
+        minRows = new int[count];
+        maxRows = new int[count];
+        int color = GameConstants.COLOR_EMPTY;
+
+        for (int rotation = 0; rotation < count; rotation++) {
+            int[][] source = rotations[rotation];
+            int[][] shape = new int[source.length][];
+            int cells = 0;
+            int columns = 0;
+            for (int row = 0; row < source.length; row++) {
+                shape[row] = source[row].clone();
+                columns = Math.max(columns, shape[row].length);
+                for (int value : shape[row]) {
+                    if (value != GameConstants.COLOR_EMPTY) {
+                        cells++;
+                        color = value;
+                    }
+                }
+            }
+            shapes[rotation] = shape;
+
+            int[] xs = new int[cells];
+            int[] ys = new int[cells];
+            long[] masks = new long[shape.length];
+            int[] bottom = new int[columns];
+            Arrays.fill(bottom, -1);
+            int minColumn = Integer.MAX_VALUE;
+            int maxColumn = Integer.MIN_VALUE;
+            int minRow = Integer.MAX_VALUE;
+            int maxRow = Integer.MIN_VALUE;
+            int cell = 0;
+            for (int row = 0; row < shape.length; row++) {
+                for (int column = 0; column < shape[row].length; column++) {
+                    if (shape[row][column] == GameConstants.COLOR_EMPTY) {
+                        continue;
+                    }
+                    xs[cell] = column;
+                    ys[cell] = row;
+                    cell++;
+                    masks[row] |= 1L << column;
+                    bottom[column] = Math.max(bottom[column], row);
+                    minColumn = Math.min(minColumn, column);
+                    maxColumn = Math.max(maxColumn, column);
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                }
+            }
+            cellColumns[rotation] = xs;
+            cellRows[rotation] = ys;
+            rowMasks[rotation] = masks;
+            bottomProfiles[rotation] = bottom;
+            minColumns[rotation] = minColumn;
+            maxColumns[rotation] = maxColumn;
+            minRows[rotation] = minRow;
+            maxRows[rotation] = maxRow;
+        }
+        this.colorIndex = color;
+    }
+
+    /**
+     * Builds a rotation table from the given rotation matrices.
+     * The matrices are copied, so callers may reuse their arrays.
+     *
+     * @param rotations rotation states in clockwise order, each indexed as {@code [row][column]}
+     * @return rotation table
+     * @throws IllegalArgumentException if no rotations are supplied
+     */
+    public static RotationTable of(int[][]... rotations) {
+        if (rotations == null || rotations.length == 0) {
+            throw new IllegalArgumentException("A brick needs at least one rotation");
+        }
+        return new RotationTable(rotations);
+    }
+
+    /**
+     * Gets the number of rotation states.
+     *
+     * @return rotation count
+     */
+    public int getRotationCount() {
+        return shapes.length;
+    }
+
+    /**
+     * Gets the colour index used by the cells of this brick.
+     *
+     * @return colour index
+     */
+    public int getColorIndex() {
+        return colorIndex;
+    }
+
+    /**
+     * Gets the shared shape matrix of a rotation.
+     *
+     * @param rotation rotation index
+     * @return shape matrix indexed as {@code [row][column]} (read-only)
+     */
+    public int[][] getShape(int rotation) {
+        return shapes[rotation];
+    }
+
+    /**
+     * Creates mutable deep copies of all rotation matrices.
+     *
+     * @return list of copied shape matrices, one per rotation
+     */
+    public List<int[][]> copyShapes() {
+        List<int[][]> copies = new ArrayList<>(shapes.length);
+        for (int[][] shape : shapes) {
+            int[][] copy = new int[shape.length][];
+            for (int row = 0; row < shape.length; row++) {
+                copy[row] = shape[row].clone();
+            }
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * Gets the column offsets of the occupied cells of a rotation.
+     *
+     * @param rotation rotation index
+     * @return column offsets, parallel to {@link #getCellRows(int)} (read-only)
+     */
+    public int[] getCellColumns(int rotation) {
+        return cellColumns[rotation];
+    }
+
+    /**
+     * Gets the row offsets of the occupied cells of a rotation.
+     *
+     * @param rotation rotation index
+     * @return row offsets, parallel to {@link #getCellColumns(int)} (read-only)
+     */
+    public int[] getCellRows(int rotation) {
+        return cellRows[rotation];
+    }
+
+    /**
+     * Gets the per-row occupancy bitmasks of a rotation, with bit {@code c} set when column {@code c} is filled.
+     *
+     * @param rotation rotation index
+     * @return row bitmasks (read-only)
+     */
+    public long[] getRowMasks(int rotation) {
+        return rowMasks[rotation];
+    }
+
+    /**
+     * Gets the bottom profile of a rotation: for every column of the shape matrix,
+     * the lowest occupied row offset, or {@code -1} if the column is empty.
+     *
+     * @param rotation rotation index
+     * @return bottom profile (read-only)
+     */
+    public int[] getBottomProfile(int rotation) {
+        return bottomProfiles[rotation];
+    }
+
+    /**
+     * Gets the leftmost occupied column offset of a rotation.
+     *
+     * @param rotation rotation index
+     * @return minimum column offset
+     */
+    public int getMinColumn(int rotation) {
+        return minColumns[rotation];
+    }
+
+    /**
+     * Gets the rightmost occupied column offset of a rotation.
+     *
+     * @param rotation rotation index
+     * @return maximum column offset
+     */
+    public int getMaxColumn(int rotation) {
+        return maxColumns[rotation];
+    }
+
+    /**
+     * Gets the topmost occupied row offset of a rotation.
+     *
+     * @param rotation rotation index
+     * @return minimum row offset
+     */
+    public int getMinRow(int rotation) {
+        return minRows[rotation];
+    }
+
+    /**
+     * Gets the lowest occupied row offset of a rotation.
+     *
+     * @param rotation rotation index
+     * @return maximum row offset
+     */
+    public int getMaxRow(int rotation) {
+        return maxRows[rotation];
+    }
+}
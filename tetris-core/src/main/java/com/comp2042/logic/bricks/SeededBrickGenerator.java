@@ -0,0 +1,271 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Deterministic brick generator whose sequence is a pure function of a seed and the piece index.
+ * Each piece is derived by hashing {@code (seed, index)} with the SplitMix64 finalizer, so any
+ * position of the sequence can be reached in O(1) with {@link #seek(long)} without replaying the
+ * history, and independent streams for parallel or distributed runs can be split off with
+ * {@link #deriveSeed(long, long)}. Supports the classic uniform distribution and the 7-bag
+ * randomizer, where every run of seven pieces is a shuffled permutation of all piece types.
+ */
+public class SeededBrickGenerator implements BrickGenerator {
+
+    /**
+     * Distribution of the generated piece sequence.
+     */
+    public enum Mode {
+        /** Every piece is drawn independently and uniformly. */
+        UNIFORM,
+        /** Pieces are dealt from shuffled bags containing each piece type once. */
+        SEVEN_BAG
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long BAG_SALT = 0xD1B54A32D192ED03L;
+    private static final long STREAM_SALT = 0x8CB92BA72F3D8DD7L;
+
+    private long seed;
+    private final Mode mode;
+    private final List<Brick> brickList;
+    private final int[] bag;
+    private final Deque<Brick> pendingBricks = new ArrayDeque<>();
+    private long bagIndex = -1;
+    private long index;
+
+    /**
+     * Constructor to create a generator over the standard piece set.
+     *
+     * @param seed sequence seed
+     * @param mode piece distribution
+     */
+    public SeededBrickGenerator(long seed, Mode mode) {
+        this(seed, mode, BrickFactory.standardBricks());
+    }
+
+    /**
+     * Constructor to create a generator over a custom piece set.
+     *
+     * @param seed sequence seed
+     * @param mode piece distribution
+     * @param brickList piece types, in a fixed order that is part of the sequence definition
+     * @throws IllegalArgumentException if the piece list is empty
+     */
+    public SeededBrickGenerator(long seed, Mode mode, List<Brick> brickList) {
+        if (brickList.isEmpty()) {
+            throw new IllegalArgumentException("Brick list must not be empty");
+        }
+        this.seed = seed;
+        this.mode = mode;
+        this.brickList = List.copyOf(brickList);
+        this.bag = new int[brickList.size()];
+    }
+
+    /**
+     * Derives the seed of an independent sub-stream, e.g. one per simulated game or worker.
+     *
+     * @param baseSeed base seed
+     * @param stream stream number
+     * @return derived seed
+     */
+    public static long deriveSeed(long baseSeed, long stream) {
+        return mix(baseSeed ^ STREAM_SALT, stream);
+    }
+
+    /**
+     * Gets the current brick and advances to the next one.
+     *
+     * @return current brick instance
+     */
+    @Override
+    public Brick getBrick() {
+        if (!pendingBricks.isEmpty()) {
+            return pendingBricks.poll();
+        }
+        return brickList.get(pieceAt(index++));
+    }
+
+    /**
+     * Gets the next brick without consuming it.
+     *
+     * @return next brick instance
+     */
+    @Override
+    public Brick getNextBrick() {
+        if (!pendingBricks.isEmpty()) {
+            return pendingBricks.peek();
+        }
+        return brickList.get(pieceAt(index));
+    }
+
+    /**
+     * Gets a brick further down the sequence. The seeded sequence can be read at any position,
+     * so the preview is unlimited.
+     *
+     * @param ahead zero-based position in the queue; 0 is the next brick
+     * @return upcoming brick
+     */
+    @Override
+    public Brick peekBrick(int ahead) {
+        if (ahead < pendingBricks.size()) {
+            int position = 0;
+            for (Brick brick : pendingBricks) {
+                if (position++ == ahead) {
+                    return brick;
+                }
+            }
+        }
+        return brickList.get(pieceAt(index + ahead - pendingBricks.size()));
+    }
+
+    /**
+     * Exports the upcoming brick for persistence.
+     *
+     * @return list containing the type name of the next brick
+     */
+    @Override
+    public List<String> exportQueuedBrickTypes() {
+        List<String> queued = new ArrayList<>();
+        queued.add(BrickFactory.getTypeName(getNextBrick()));
+        return queued;
+    }
+
+    /**
+     * Queues the provided bricks ahead of the seeded sequence.
+     * They are dealt first; afterwards the sequence continues from the current index.
+     *
+     * @param queuedTypes queued brick type names
+     */
+    @Override
+    public void importQueuedBrickTypes(List<String> queuedTypes) {
+        pendingBricks.clear();
+        if (queuedTypes == null) {
+            return;
+        }
+        for (String type : queuedTypes) {
+            try {
+                pendingBricks.add(BrickFactory.createBrick(type));
+            } catch (IllegalArgumentException exception) {
+                // Unknown types are skipped; the seeded sequence fills the gap
+            }
+        }
+    }
+
+    /**
+     * Jumps to an arbitrary position of the sequence in constant time.
+     * Any bricks queued through {@link #importQueuedBrickTypes(List)} are discarded.
+     *
+     * @param pieceIndex zero-based index of the next brick to deal
+     */
+    public void seek(long pieceIndex) {
+        pendingBricks.clear();
+        this.index = pieceIndex;
+    }
+
+    /**
+     * Restarts the generator on a new sequence, as if it had just been created with the given seed.
+     *
+     * @param newSeed sequence seed
+     */
+    public void reseed(long newSeed) {
+        pendingBricks.clear();
+        seed = newSeed;
+        bagIndex = -1;
+        index = 0;
+    }
+
+    /**
+     * Gets the index of the next brick to be dealt from the seeded sequence.
+     *
+     * @return piece index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the seed of this generator.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the piece distribution of this generator.
+     *
+     * @return mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Computes the piece type at an arbitrary position of the sequence without changing the generator state
+     * beyond its bag cache.
+     *
+     * @param pieceIndex zero-based piece index
+     * @return index into the piece list
+     */
+    public int pieceAt(long pieceIndex) {
+        int count = brickList.size();
+        if (mode == Mode.UNIFORM) {
+            return bounded(mix(seed, pieceIndex), count);
+        }
+        long requestedBag = Math.floorDiv(pieceIndex, count);
+        if (requestedBag != bagIndex) {
+            shuffleBag(requestedBag);
+        }
+        return bag[Math.floorMod(pieceIndex, count)];
+    }
+
+    /**
+     * Fills the bag cache with the Fisher-Yates permutation of the given bag number.
+     *
+     * @param bagNumber bag number
+     */
+    private void shuffleBag(long bagNumber) {
+        int count = bag.length;
+        for (int i = 0; i < count; i++) {
+            bag[i] = i;
+        }
+        long bagSeed = mix(seed ^ BAG_SALT, bagNumber);
+        for (int i = count - 1; i > 0; i--) {
+            int j = bounded(mix(bagSeed, i), i + 1);
+            int swap = bag[i];
+            bag[i] = bag[j];
+            bag[j] = swap;
+        }
+        bagIndex = bagNumber;
+    }
+
+    /**
+     * SplitMix64 finalizer applied to the {@code counter}-th element of the stream of {@code key}.
+     *
+     * @param key stream key
+     * @param counter element number
+     * @return 64 well-mixed bits
+     */
+    private static long mix(long key, long counter) {
+        long z = key + (counter + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Maps 64 random bits to {@code [0, bound)} using the high 32 bits (multiply-shift reduction).
+     *
+     * @param bits random bits
+     * @param bound exclusive upper bound
+     * @return value in range
+     */
+    private static int bounded(long bits, int bound) {
+        return (int) (((bits >>> 32) * bound) >>> 32);
+    }
+}
@@ -0,0 +1,126 @@
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+/**
+ * A recorded game: its configuration, the seed of its brick sequence, the player's inputs as an encoded stream of
+ * (tick, move) pairs, and the result the game reached, so playback can be checked against it.
+ *
+ * <p>The input stream holds one varint per move, {@code (ticksSincePreviousMove << 3) | move ordinal},
+ * where the tick is the number of fixed ticks the engine had run when the move was applied. Runs of
+ * identical entries, as produced by soft drop and autorepeat, are stored once followed by
+ * {@code (extraCount << 3) | REPEAT_CODE}. Instances are immutable.
+ */
+public final class Replay {
+
+    /** Number of low bits of each stream entry that hold the move ordinal. */
+    public static final int MOVE_BITS = 3;
+    /** Move field value marking a repeat of the previous entry. */
+    public static final int REPEAT_CODE = (1 << MOVE_BITS) - 1;
+
+    private final long seed;
+    private final SeededBrickGenerator.Mode mode;
+    private final GameConfig config;
+    private final long tickCount;
+    private final int moveCount;
+    private final int finalScore;
+    private final int finalLines;
+    private final byte[] moves;
+
+    /**
+     * Constructor to create a replay.
+     *
+     * @param seed brick sequence seed
+     * @param mode brick distribution
+     * @param config configuration of the recorded game
+     * @param tickCount ticks run by the recorded game
+     * @param moveCount number of moves in the stream
+     * @param finalScore score at the end of the recording
+     * @param finalLines cleared lines at the end of the recording
+     * @param moves encoded move stream; owned by the replay afterwards
+     */
+    public Replay(long seed, SeededBrickGenerator.Mode mode, GameConfig config, long tickCount, int moveCount,
+                  int finalScore, int finalLines, byte[] moves) {
+        this.seed = seed;
+        this.mode = mode;
+        this.config = config;
+        this.tickCount = tickCount;
+        this.moveCount = moveCount;
+        this.finalScore = finalScore;
+        this.finalLines = finalLines;
+        this.moves = moves;
+    }
+
+    /**
+     * Gets the brick sequence seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the brick distribution.
+     *
+     * @return mode
+     */
+    public SeededBrickGenerator.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the configuration of the recorded game.
+     *
+     * @return game configuration
+     */
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the number of ticks the recorded game ran.
+     *
+     * @return tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the number of moves in the stream.
+     *
+     * @return move count
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Gets the score at the end of the recording.
+     *
+     * @return final score
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Gets the cleared lines at the end of the recording.
+     *
+     * @return final line count
+     */
+    public int getFinalLines() {
+        return finalLines;
+    }
+
+    /**
+     * Gets the encoded move stream. The array is shared and must not be modified.
+     *
+     * @return move stream
+     */
+    public byte[] getMoves() {
+        return moves;
+    }
+}
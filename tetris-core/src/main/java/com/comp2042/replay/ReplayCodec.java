@@ -0,0 +1,168 @@
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes and decodes {@link Replay}s in the compact binary replay format.
+ *
+ * <p>Layout (version 2, big-endian):
+ * <pre>
+ * header  int magic "TRPL", byte version, long seed, byte mode
+ * config  varint width, varint height, varint hidden rows, varint spawn x, varint spawn y,
+ *         varint piece count, then one {@link BrickFactory#getTypeCode(String)} byte per piece
+ * result  varint ticks, varint moves, varint score, varint lines
+ * moves   varint length, then the encoded move stream
+ * </pre>
+ * Version 1 replays have no config section and are read as games of {@link GameConfig#standard()}.
+ */
+public final class ReplayCodec {
+
+    /** Magic number at the start of every replay ("TRPL"). */
+    public static final int MAGIC = 0x5452504C;
+    /** Current format version. */
+    public static final byte VERSION = 2;
+
+    private static final byte VERSION_STANDARD_CONFIG = 1;
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private ReplayCodec() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Encodes a replay into a new buffer ready to be written.
+     *
+     * @param replay replay to encode
+     * @return flipped buffer containing the encoded replay
+     */
+    public static ByteBuffer encode(Replay replay) {
+        byte[] moves = replay.getMoves();
+        GameConfig config = replay.getConfig();
+        List<String> pieceTypes = config.getPieceTypes();
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 2 + Long.BYTES + MAX_VARINT_BYTES * 11
+                + pieceTypes.size() + moves.length);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(replay.getSeed());
+        buffer.put((byte) replay.getMode().ordinal());
+        putVarint(buffer, config.getWidth());
+        putVarint(buffer, config.getHeight());
+        putVarint(buffer, config.getHiddenRows());
+        putVarint(buffer, config.getSpawnX());
+        putVarint(buffer, config.getSpawnY());
+        putVarint(buffer, pieceTypes.size());
+        for (String type : pieceTypes) {
+            buffer.put((byte) BrickFactory.getTypeCode(type));
+        }
+        putVarint(buffer, replay.getTickCount());
+        putVarint(buffer, replay.getMoveCount());
+        putVarint(buffer, replay.getFinalScore());
+        putVarint(buffer, replay.getFinalLines());
+        putVarint(buffer, moves.length);
+        buffer.put(moves);
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a replay.
+     *
+     * @param buffer buffer positioned at the magic number
+     * @return decoded replay
+     * @throws IOException if the data is not a replay, has an unsupported version or configuration, or is truncated
+     */
+    public static Replay decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a replay file");
+            }
+            byte version = buffer.get();
+            if (version != VERSION && version != VERSION_STANDARD_CONFIG) {
+                throw new IOException("Unsupported replay version: " + version);
+            }
+            long seed = buffer.getLong();
+            int modeOrdinal = buffer.get();
+            SeededBrickGenerator.Mode[] modes = SeededBrickGenerator.Mode.values();
+            if (modeOrdinal < 0 || modeOrdinal >= modes.length) {
+                throw new IOException("Unknown replay brick mode: " + modeOrdinal);
+            }
+            GameConfig config = version == VERSION_STANDARD_CONFIG ? GameConfig.standard() : getConfig(buffer);
+            long ticks = getVarint(buffer);
+            if (ticks < 0) {
+                throw new IOException("Corrupt replay");
+            }
+            int moveCount = getIntVarint(buffer);
+            int score = getIntVarint(buffer);
+            int lines = getIntVarint(buffer);
+            int length = getIntVarint(buffer);
+            if (length > buffer.remaining()) {
+                // Checked before allocating, so a corrupt length cannot exhaust the heap
+                throw new IOException("Corrupt replay");
+            }
+            byte[] moves = new byte[length];
+            buffer.get(moves);
+            return new Replay(seed, modes[modeOrdinal], config, ticks, moveCount, score, lines, moves);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Corrupt replay", exception);
+        }
+    }
+
+    /**
+     * Reads the config section; the builder rejects unsupported sizes, spawn points and piece types.
+     */
+    private static GameConfig getConfig(ByteBuffer buffer) {
+        GameConfig.Builder builder = GameConfig.builder()
+                .width(getIntVarint(buffer))
+                .height(getIntVarint(buffer))
+                .hiddenRows(getIntVarint(buffer))
+                .spawn(getIntVarint(buffer), getIntVarint(buffer));
+        int pieceCount = getIntVarint(buffer);
+        if (pieceCount > buffer.remaining()) {
+            throw new IllegalArgumentException("Piece count exceeds replay length");
+        }
+        List<String> pieceTypes = new ArrayList<>();
+        for (int i = 0; i < pieceCount; i++) {
+            pieceTypes.add(BrickFactory.getTypeName(buffer.get()));
+        }
+        return builder.pieces(pieceTypes).build();
+    }
+
+    private static void putVarint(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static long getVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Reads a varint that must fit a non-negative {@code int}, e.g. a count or length.
+     */
+    private static int getIntVarint(ByteBuffer buffer) {
+        long value = getVarint(buffer);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+}
@@ -0,0 +1,181 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.Score;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+/**
+ * Plays a {@link Replay} back through a {@link GameEngine}, applying each recorded move through
+ * {@link GameEngine#applyMove(EventType)} before the tick it preceded, exactly as the engine thread did live.
+ * Ticks can be driven one at a time at the game's pace, or all at once to check a replay headlessly.
+ */
+public final class ReplayPlayer {
+
+    private static final EventType[] MOVES = EventType.values();
+
+    private final Replay replay;
+    private final GameEngine engine;
+    private final byte[] moves;
+    private int position;
+    private long tick;
+    private long nextMoveTick;
+    private EventType nextMove;
+    private long runDelta;
+    private long runRemaining;
+
+    /**
+     * Constructor to play a replay on a new headless engine with a detached score.
+     *
+     * @param replay replay to play
+     */
+    public ReplayPlayer(Replay replay) {
+        this(replay, new GameEngine(new SimpleBoard(replay.getConfig(),
+                new SeededBrickGenerator(replay.getSeed(), replay.getMode(), replay.getConfig().getPieces()),
+                new Score(false))));
+    }
+
+    /**
+     * Constructor to play a replay on an existing engine, which is restarted on the replay's seed.
+     *
+     * @param replay replay to play
+     * @param engine engine with the replay's configuration and a seeded brick generator of the replay's mode
+     * @throws IllegalArgumentException if the engine cannot play the replay's game or brick sequence
+     */
+    public ReplayPlayer(Replay replay, GameEngine engine) {
+        if (!engine.getBoard().getConfig().equals(replay.getConfig())) {
+            throw new IllegalArgumentException("Engine runs " + engine.getBoard().getConfig()
+                    + ", replay was recorded on " + replay.getConfig());
+        }
+        this.replay = replay;
+        this.engine = engine;
+        this.moves = replay.getMoves();
+        engine.startGame(replay.getSeed(), replay.getMode());
+        readNextMove();
+    }
+
+    /**
+     * Checks a replay headlessly: plays it as fast as possible and compares the result with the recorded one.
+     *
+     * @param replay replay to check
+     * @return true if playback reaches the recorded score and line count
+     */
+    public static boolean verify(Replay replay) {
+        ReplayPlayer player = new ReplayPlayer(replay);
+        player.playToEnd();
+        return player.matchesRecording();
+    }
+
+    /**
+     * Applies the moves recorded before the next tick, then runs that tick.
+     *
+     * @return true if anything was played, false if the replay had already finished
+     */
+    public boolean advanceTick() {
+        if (isFinished()) {
+            return false;
+        }
+        while (nextMove != null && nextMoveTick == tick) {
+            engine.applyMove(nextMove);
+            readNextMove();
+        }
+        if (tick < replay.getTickCount()) {
+            engine.onTick();
+            tick++;
+        }
+        return true;
+    }
+
+    /**
+     * Plays the rest of the replay without pausing between ticks.
+     */
+    public void playToEnd() {
+        while (advanceTick()) {
+            // keep playing
+        }
+    }
+
+    /**
+     * Indicates whether every recorded tick and move has been played.
+     *
+     * @return true if finished
+     */
+    public boolean isFinished() {
+        return nextMove == null && tick >= replay.getTickCount();
+    }
+
+    /**
+     * Indicates whether playback has finished with the recorded score and line count.
+     *
+     * @return true if the replay reproduced its recorded result
+     */
+    public boolean matchesRecording() {
+        Score score = engine.getBoard().getScore();
+        return isFinished() && score.getValue() == replay.getFinalScore()
+                && score.getLinesCleared() == replay.getFinalLines();
+    }
+
+    /**
+     * Gets the number of ticks played so far.
+     *
+     * @return tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the engine the replay is played on.
+     *
+     * @return game engine
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Decodes the next stream entry, or clears {@link #nextMove} at the end of the stream.
+     */
+    private void readNextMove() {
+        if (runRemaining > 0) {
+            runRemaining--;
+            nextMoveTick += runDelta;
+            return;
+        }
+        if (position >= moves.length) {
+            nextMove = null;
+            return;
+        }
+        long entry = readEntry();
+        int ordinal = (int) (entry & Replay.REPEAT_CODE);
+        if (ordinal == Replay.REPEAT_CODE) {
+            if (nextMove == null || entry >>> Replay.MOVE_BITS == 0) {
+                throw new IllegalArgumentException("Malformed repeat in replay move stream");
+            }
+            runRemaining = (entry >>> Replay.MOVE_BITS) - 1;
+            nextMoveTick += runDelta;
+            return;
+        }
+        if (ordinal >= MOVES.length) {
+            throw new IllegalArgumentException("Unknown move in replay: " + ordinal);
+        }
+        nextMove = MOVES[ordinal];
+        runDelta = entry >>> Replay.MOVE_BITS;
+        nextMoveTick += runDelta;
+    }
+
+    private long readEntry() {
+        long entry = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (position >= moves.length || shift >= Long.SIZE) {
+                throw new IllegalArgumentException("Malformed replay move stream");
+            }
+            byte b = moves[position++];
+            entry |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return entry;
+            }
+        }
+    }
+}
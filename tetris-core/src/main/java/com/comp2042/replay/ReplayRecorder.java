@@ -0,0 +1,130 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventType;
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Records the moves applied to a game engine, encoding each one into a growing byte stream as it
+ * happens, with runs of identical entries collapsed into a repeat count. Recording a tick or a move
+ * does not allocate once the buffer has grown to fit the game; a ten-minute game takes a few
+ * kilobytes. Used by one thread at a time.
+ */
+public final class ReplayRecorder {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int moveCount;
+    private long tickCount;
+    private long lastMoveTick;
+    private long lastEntry = -1;
+    private int repeats;
+    private long seed;
+    private SeededBrickGenerator.Mode mode;
+    private GameConfig config;
+    private boolean recording;
+
+    /**
+     * Starts a new recording, discarding the previous one.
+     *
+     * @param gameSeed brick sequence seed of the game
+     * @param gameMode brick distribution of the game
+     * @param gameConfig configuration of the game
+     */
+    public void begin(long gameSeed, SeededBrickGenerator.Mode gameMode, GameConfig gameConfig) {
+        seed = gameSeed;
+        mode = gameMode;
+        config = gameConfig;
+        length = 0;
+        moveCount = 0;
+        tickCount = 0;
+        lastMoveTick = 0;
+        lastEntry = -1;
+        repeats = 0;
+        recording = true;
+    }
+
+    /**
+     * Stops recording, e.g. when a saved game is loaded and the state no longer follows from the seed.
+     */
+    public void cancel() {
+        recording = false;
+    }
+
+    /**
+     * Counts one fixed tick of the engine.
+     */
+    public void tick() {
+        tickCount++;
+    }
+
+    /**
+     * Records a move applied after the ticks counted so far.
+     *
+     * @param move applied move
+     */
+    public void move(EventType move) {
+        if (!recording) {
+            return;
+        }
+        long entry = (tickCount - lastMoveTick) << Replay.MOVE_BITS | move.ordinal();
+        lastMoveTick = tickCount;
+        moveCount++;
+        if (entry == lastEntry && repeats < Integer.MAX_VALUE) {
+            repeats++;
+            return;
+        }
+        flushRepeats();
+        write(entry);
+        lastEntry = entry;
+    }
+
+    /**
+     * Indicates whether a recording is in progress.
+     *
+     * @return true if recording
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Copies the recording so far into a replay.
+     *
+     * @param finalScore current score of the game
+     * @param finalLines current cleared line count of the game
+     * @return replay, or null if nothing is being recorded
+     */
+    public Replay snapshot(int finalScore, int finalLines) {
+        if (!recording) {
+            return null;
+        }
+        flushRepeats();
+        // The next move starts a new run; the written stream stays a valid prefix
+        lastEntry = -1;
+        return new Replay(seed, mode, config, tickCount, moveCount, finalScore, finalLines,
+                Arrays.copyOf(buffer, length));
+    }
+
+    private void flushRepeats() {
+        if (repeats > 0) {
+            write((long) repeats << Replay.MOVE_BITS | Replay.REPEAT_CODE);
+            repeats = 0;
+        }
+    }
+
+    private void write(long entry) {
+        if (length + 10 > buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        while ((entry & ~0x7FL) != 0) {
+            buffer[length++] = (byte) ((entry & 0x7F) | 0x80);
+            entry >>>= 7;
+        }
+        buffer[length++] = (byte) entry;
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.replay;
+
+import com.comp2042.util.PersistenceWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stores replays as binary files in the user's replay folder. Writes go through the
+ * {@link PersistenceWriter} so they never block the game or UI threads.
+ */
+public final class ReplayStore {
+
+    private static final String REPLAY_FOLDER = ".tetris_replays";
+    private static final String EXTENSION = ".trp";
+    private static final DateTimeFormatter FILE_NAME_FORMATTER =
+            DateTimeFormatter.ofPattern("'replay-'yyyyMMdd-HHmmss-SSS");
+
+    private ReplayStore() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Writes a replay to a new timestamped file in the background.
+     *
+     * @param replay replay to store
+     * @return future completed with the file once written
+     */
+    public static CompletableFuture<Path> saveAsync(Replay replay) {
+        Path directory = getReplayDirectory();
+        Path path = directory.resolve(LocalDateTime.now().format(FILE_NAME_FORMATTER) + EXTENSION);
+        ByteBuffer buffer = ReplayCodec.encode(replay);
+        return PersistenceWriter.submit(path, () -> {
+            Files.createDirectories(directory);
+            PersistenceWriter.writeAtomically(path, buffer);
+        }).thenApply(ignored -> path);
+    }
+
+    /**
+     * Reads a replay file.
+     *
+     * @param path replay file
+     * @return decoded replay
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public static Replay load(Path path) throws IOException {
+        PersistenceWriter.awaitPending(path);
+        return ReplayCodec.decode(ByteBuffer.wrap(Files.readAllBytes(path)));
+    }
+
+    /**
+     * Lists the stored replay files, oldest first.
+     *
+     * @return replay files
+     */
+    public static List<Path> listReplays() {
+        List<Path> replays = new ArrayList<>();
+        Path directory = getReplayDirectory();
+        if (!Files.isDirectory(directory)) {
+            return replays;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            stream.forEach(replays::add);
+        } catch (IOException exception) {
+            System.err.println("Failed to list replays: " + exception.getMessage());
+        }
+        replays.sort(null);
+        return replays;
+    }
+
+    private static Path getReplayDirectory() {
+        String userHome = System.getProperty("user.home");
+        return Paths.get(userHome, REPLAY_FOLDER);
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Command-line tool that checks replays headlessly, e.g. to audit a disputed high score: each replay is
+ * played as fast as possible and its final score and line count are compared with the recorded ones.
+ * <p>
+ * Usage: {@code ReplayVerifier [FILE...]}; without arguments every stored replay is checked.
+ * Exits with status 1 if any replay fails.
+ */
+public final class ReplayVerifier {
+
+    private ReplayVerifier() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args replay files to check
+     */
+    public static void main(String[] args) {
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            files.add(Path.of(arg));
+        }
+        if (files.isEmpty()) {
+            files.addAll(ReplayStore.listReplays());
+        }
+        int failures = 0;
+        for (Path file : files) {
+            try {
+                Replay replay = ReplayStore.load(file);
+                long start = System.nanoTime();
+                boolean valid = ReplayPlayer.verify(replay);
+                double millis = (System.nanoTime() - start) / 1e6;
+                System.out.printf(Locale.ROOT, "%s %s: score %d, %d lines, %d ticks, %d moves, %d bytes (%.2f ms)%n",
+                        valid ? "OK  " : "FAIL", file.getFileName(), replay.getFinalScore(), replay.getFinalLines(),
+                        replay.getTickCount(), replay.getMoveCount(), replay.getMoves().length, millis);
+                if (!valid) {
+                    failures++;
+                }
+            } catch (IOException | IllegalArgumentException exception) {
+                System.err.println("FAIL " + file.getFileName() + ": " + exception.getMessage());
+                failures++;
+            }
+        }
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+}
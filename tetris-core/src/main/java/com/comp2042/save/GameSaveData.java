@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
- * Serializable representation of the entire game state for persistence.
+ * Representation of the entire game state for persistence.
+ * Saves are written by {@link SaveCodec}; the class stays {@link Serializable} so that saves
+ * written with Java serialization by earlier versions can still be read and migrated.
  */
 public final class GameSaveData implements Serializable {
 
@@ -0,0 +1,360 @@
+package com.comp2042.save;
+
+import com.comp2042.util.PersistenceWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Handles saving, loading and listing game save files on disk.
+ * Saves are written in the binary format of {@link SaveCodec}; older files written with Java
+ * serialization are still readable and are rewritten in the binary format when loaded.
+ * Save metadata is kept in a {@link SaveCatalogue} index that is updated on every save and delete.
+ *
+ * <p>Reads, listings and deletes wait for queued writes to the files they touch, which may mean waiting for
+ * a disk flush. UI code should use the {@code Async} variants, which run on a background reader thread in
+ * submission order and complete their future once the result is ready.
+ */
+public final class GameSaveManager {
+
+    private static final String SAVE_FOLDER = ".tetris_saves";
+    private static final String EXTENSION = ".sav";
+    private static final int HEADER_READ_BYTES = 128;
+    private static final Object CATALOGUE_LOCK = new Object();
+    private static final ExecutorService READER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-reader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final DateTimeFormatter DEFAULT_NAME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private GameSaveManager() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Persists the provided game state on the calling thread.
+     * The file is replaced atomically, so a crash never leaves a half-written save behind.
+     *
+     * @param data state to persist
+     * @throws IOException if writing to disk fails
+     */
+    public static void saveGame(GameSaveData data) throws IOException {
+        writeSave(data, SaveCodec.encode(data));
+    }
+
+    /**
+     * Persists the provided game state on the {@link PersistenceWriter} thread.
+     * The state is encoded before this method returns, so later changes to the game do not affect the save.
+     *
+     * @param data state to persist
+     * @return future completed when the save is on disk, or completed exceptionally if writing fails
+     */
+    public static CompletableFuture<Void> saveGameAsync(GameSaveData data) {
+        ByteBuffer buffer;
+        try {
+            buffer = SaveCodec.encode(data);
+        } catch (IllegalArgumentException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        return PersistenceWriter.submit(getSavePath(data.getFileSafeName()), () -> writeSave(data, buffer));
+    }
+
+    private static void writeSave(GameSaveData data, ByteBuffer buffer) throws IOException {
+        Path directory = getSaveDirectory();
+        Path filePath = getSavePath(data.getFileSafeName());
+        Files.createDirectories(directory);
+        synchronized (CATALOGUE_LOCK) {
+            long directoryStamp = SaveCatalogue.stamp(directory);
+            PersistenceWriter.writeAtomically(filePath, buffer);
+            SaveCatalogue catalogue = SaveCatalogue.open(directory);
+            catalogue.put(new GameSaveMetadata(data.getFileSafeName(), data.getDisplayName(), data.getSavedAt()),
+                    SaveCatalogue.stamp(filePath));
+            storeCatalogue(catalogue, directoryStamp);
+        }
+    }
+
+    /**
+     * Loads a previously saved game state.
+     *
+     * @param fileSafeName sanitized save identifier
+     * @return optional game state
+     * @throws IOException if reading fails
+     * @throws ClassNotFoundException if a legacy serialized save refers to a missing class
+     */
+    public static Optional<GameSaveData> loadGame(String fileSafeName)
+            throws IOException, ClassNotFoundException {
+        Path filePath = getSavePath(fileSafeName);
+        PersistenceWriter.awaitPending(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = readFile(filePath);
+        if (SaveCodec.isBinarySave(buffer)) {
+            return Optional.of(SaveCodec.decode(buffer, fileSafeName));
+        }
+        Optional<GameSaveData> legacyData = readLegacySave(buffer);
+        if (legacyData.isPresent()) {
+            GameSaveData saveData = legacyData.get();
+            SaveCodec.checkBrick(saveData.getBoardMatrix(), saveData.getCurrentBrickType(),
+                    saveData.getCurrentRotationIndex(), saveData.getCurrentOffsetX(), saveData.getCurrentOffsetY());
+            migrateLegacySave(saveData);
+        }
+        return legacyData;
+    }
+
+    /**
+     * Lists all saved games sorted by most recent first.
+     *
+     * @return metadata list
+     */
+    public static List<GameSaveMetadata> listSaves() {
+        return listSaves(0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lists all saved games on the background reader thread.
+     *
+     * @return future completed with the metadata list, sorted by most recent first
+     */
+    public static CompletableFuture<List<GameSaveMetadata>> listSavesAsync() {
+        return CompletableFuture.supplyAsync(GameSaveManager::listSaves, READER);
+    }
+
+    /**
+     * Lists one page of saved games sorted by most recent first.
+     * Reads the save index; save files are only opened if they changed since the index was written.
+     * Waits for queued writes to the save folder, but not for unrelated writes such as the high score.
+     *
+     * @param offset number of saves to skip
+     * @param limit maximum number of saves to return
+     * @return metadata list
+     */
+    public static List<GameSaveMetadata> listSaves(int offset, int limit) {
+        Path directory = getSaveDirectory();
+        if (!Files.exists(directory)) {
+            return new ArrayList<>();
+        }
+        PersistenceWriter.awaitPendingIn(directory);
+        synchronized (CATALOGUE_LOCK) {
+            return openCatalogue(directory).page(offset, limit);
+        }
+    }
+
+    /**
+     * Counts the saved games.
+     *
+     * @return number of saves
+     */
+    public static int countSaves() {
+        Path directory = getSaveDirectory();
+        if (!Files.exists(directory)) {
+            return 0;
+        }
+        PersistenceWriter.awaitPendingIn(directory);
+        synchronized (CATALOGUE_LOCK) {
+            return openCatalogue(directory).size();
+        }
+    }
+
+    /**
+     * Checks if a save with the provided name already exists.
+     *
+     * @param fileSafeName sanitized name
+     * @return true if the save exists
+     */
+    public static boolean saveExists(String fileSafeName) {
+        Path path = getSavePath(fileSafeName);
+        PersistenceWriter.awaitPending(path);
+        return Files.exists(path);
+    }
+
+    /**
+     * Checks on the background reader thread if a save with the provided name already exists.
+     *
+     * @param fileSafeName sanitized name
+     * @return future completed with true if the save exists
+     */
+    public static CompletableFuture<Boolean> saveExistsAsync(String fileSafeName) {
+        return CompletableFuture.supplyAsync(() -> saveExists(fileSafeName), READER);
+    }
+
+    /**
+     * Deletes the save file associated with the provided name.
+     *
+     * @param fileSafeName sanitized name
+     * @return true if the save file was deleted
+     */
+    public static boolean deleteSave(String fileSafeName) {
+        Path directory = getSaveDirectory();
+        Path path = getSavePath(fileSafeName);
+        PersistenceWriter.awaitPending(path);
+        synchronized (CATALOGUE_LOCK) {
+            try {
+                long directoryStamp = SaveCatalogue.stamp(directory);
+                if (!Files.deleteIfExists(path)) {
+                    return false;
+                }
+                SaveCatalogue catalogue = SaveCatalogue.open(directory);
+                catalogue.remove(fileSafeName);
+                storeCatalogue(catalogue, directoryStamp);
+                return true;
+            } catch (IOException exception) {
+                System.err.println("Failed to delete save: " + exception.getMessage());
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Deletes the save file associated with the provided name on the background reader thread.
+     *
+     * @param fileSafeName sanitized name
+     * @return future completed with true if the save file was deleted
+     */
+    public static CompletableFuture<Boolean> deleteSaveAsync(String fileSafeName) {
+        return CompletableFuture.supplyAsync(() -> deleteSave(fileSafeName), READER);
+    }
+
+    /**
+     * Generates a default save display name using the current timestamp.
+     *
+     * @return default display name
+     */
+    public static String generateDefaultDisplayName() {
+        return "Save-" + LocalDateTime.now().format(DEFAULT_NAME_FORMATTER);
+    }
+
+    /**
+     * Sanitizes user provided names for file system usage.
+     *
+     * @param userProvidedName raw name
+     * @return sanitized name
+     */
+    public static String toFileSafeName(String userProvidedName) {
+        String sanitized = userProvidedName.trim().replaceAll("[^a-zA-Z0-9-_]", "_");
+        if (sanitized.isBlank()) {
+            sanitized = "save_" + System.currentTimeMillis();
+        }
+        return sanitized;
+    }
+
+    private static SaveCatalogue openCatalogue(Path directory) {
+        SaveCatalogue catalogue = SaveCatalogue.open(directory);
+        if (!catalogue.isCurrent()) {
+            try {
+                catalogue.refresh(EXTENSION, GameSaveManager::loadMetadata);
+                catalogue.store();
+            } catch (IOException exception) {
+                System.err.println("Failed to update save index: " + exception.getMessage());
+            }
+        }
+        return catalogue;
+    }
+
+    /**
+     * Writes the catalogue after this process changed one save file. If the index matched the directory
+     * before the change, it still matches afterwards; otherwise it is left stale for the next listing.
+     */
+    private static void storeCatalogue(SaveCatalogue catalogue, long directoryStampBeforeChange) {
+        if (catalogue.wasCurrentAt(directoryStampBeforeChange)) {
+            catalogue.markCurrent();
+        }
+        try {
+            catalogue.store();
+        } catch (IOException exception) {
+            System.err.println("Failed to update save index: " + exception.getMessage());
+        }
+    }
+
+    private static Optional<GameSaveMetadata> loadMetadata(Path path) {
+        try {
+            ByteBuffer header = readPrefix(path, HEADER_READ_BYTES);
+            if (SaveCodec.isBinarySave(header)) {
+                try {
+                    return Optional.of(SaveCodec.decodeMetadata(header, toSaveName(path)));
+                } catch (IOException exception) {
+                    // Display name longer than the prefix; fall back to the whole file
+                    return Optional.of(SaveCodec.decodeMetadata(readFile(path), toSaveName(path)));
+                }
+            }
+            ByteBuffer buffer = readFile(path);
+            return readLegacySave(buffer).map(saveData -> new GameSaveMetadata(
+                    saveData.getFileSafeName(),
+                    saveData.getDisplayName(),
+                    saveData.getSavedAt()));
+        } catch (IOException | ClassNotFoundException exception) {
+            System.err.println("Failed to read save metadata: " + exception.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private static ByteBuffer readFile(Path path) throws IOException {
+        return readPrefix(path, Integer.MAX_VALUE);
+    }
+
+    private static ByteBuffer readPrefix(Path path, int maxBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), maxBytes));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Reads a save written by earlier versions through {@code ObjectOutputStream}.
+     */
+    private static Optional<GameSaveData> readLegacySave(ByteBuffer buffer)
+            throws IOException, ClassNotFoundException {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Object object = inputStream.readObject();
+            if (object instanceof GameSaveData saveData) {
+                return Optional.of(saveData);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void migrateLegacySave(GameSaveData saveData) {
+        try {
+            saveGame(saveData);
+        } catch (IOException | IllegalArgumentException exception) {
+            System.err.println("Failed to migrate legacy save: " + exception.getMessage());
+        }
+    }
+
+    private static String toSaveName(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.substring(0, fileName.length() - EXTENSION.length());
+    }
+
+    private static Path getSavePath(String fileSafeName) {
+        return getSaveDirectory().resolve(fileSafeName + EXTENSION);
+    }
+
+    private static Path getSaveDirectory() {
+        String userHome = System.getProperty("user.home");
+        return Paths.get(userHome, SAVE_FOLDER);
+    }
+}
+
@@ -0,0 +1,280 @@
+package com.comp2042.save;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Persistent index of save metadata kept next to the save files.
+ *
+ * <p>The index records the modification time of every save file and of the save directory itself.
+ * While the directory time is unchanged, no save has been added, removed or replaced since the index was
+ * written, so listing costs a single small file read. Otherwise {@link #refresh} walks the directory once,
+ * keeps entries whose file time still matches and re-reads only the headers of new or changed files.
+ * Not thread-safe; {@link GameSaveManager} serialises access.
+ */
+final class SaveCatalogue {
+
+    /** File name of the index inside the save directory. */
+    static final String INDEX_FILE_NAME = "saves.idx";
+
+    private static final int MAGIC = 0x54494458; // "TIDX"
+    private static final byte VERSION = 1;
+    private static final long UNKNOWN_STAMP = Long.MIN_VALUE;
+    private static final int MIN_ENTRY_BYTES = 2 + 2 * Long.BYTES; // two empty names, saved time, file stamp
+    private static final Comparator<GameSaveMetadata> NEWEST_FIRST =
+            Comparator.comparingLong(GameSaveMetadata::getSavedAt).reversed()
+                    .thenComparing(GameSaveMetadata::getFileSafeName);
+
+    private final Path directory;
+    private Map<String, Entry> entries;
+    private long directoryStamp;
+    private List<GameSaveMetadata> sorted;
+
+    private SaveCatalogue(Path directory, Map<String, Entry> entries, long directoryStamp) {
+        this.directory = directory;
+        this.entries = entries;
+        this.directoryStamp = directoryStamp;
+    }
+
+    /**
+     * Opens the index of a save directory. A missing or corrupt index yields an empty, stale catalogue.
+     *
+     * @param directory save directory
+     * @return catalogue
+     */
+    static SaveCatalogue open(Path directory) {
+        Path indexPath = directory.resolve(INDEX_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return decode(directory, buffer.flip());
+        } catch (NoSuchFileException exception) {
+            return new SaveCatalogue(directory, new HashMap<>(), UNKNOWN_STAMP);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException
+                | NegativeArraySizeException exception) {
+            System.err.println("Rebuilding unreadable save index " + indexPath + ": " + exception);
+            return new SaveCatalogue(directory, new HashMap<>(), UNKNOWN_STAMP);
+        }
+    }
+
+    /**
+     * Gets a modification stamp for a file or directory, with the full precision of the file system.
+     *
+     * @param path file or directory
+     * @return stamp in nanoseconds, or a sentinel if the path cannot be read
+     */
+    static long stamp(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).to(TimeUnit.NANOSECONDS);
+        } catch (IOException exception) {
+            return UNKNOWN_STAMP;
+        }
+    }
+
+    /**
+     * Checks whether the index still matches the directory.
+     *
+     * @return true if the directory has not changed since the index was last reconciled
+     */
+    boolean isCurrent() {
+        return directoryStamp != UNKNOWN_STAMP && directoryStamp == stamp(directory);
+    }
+
+    /**
+     * Checks whether the index matched the directory at the given stamp.
+     *
+     * @param expectedStamp directory stamp taken before a change made by this process
+     * @return true if the index was current at that point
+     */
+    boolean wasCurrentAt(long expectedStamp) {
+        return directoryStamp != UNKNOWN_STAMP && directoryStamp == expectedStamp;
+    }
+
+    /**
+     * Marks the index as matching the directory as it is now.
+     * Only valid after applying, through {@link #put} or {@link #remove}, every change made since the index was current.
+     */
+    void markCurrent() {
+        directoryStamp = stamp(directory);
+    }
+
+    /**
+     * Reconciles the index with the directory contents.
+     *
+     * @param extension save file extension, including the dot
+     * @param headerReader reads the metadata of a new or changed save file
+     * @throws IOException if the directory cannot be listed
+     */
+    void refresh(String extension, Function<Path, Optional<GameSaveMetadata>> headerReader) throws IOException {
+        long refreshedStamp = stamp(directory);
+        Map<String, Entry> refreshed = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + extension)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String fileSafeName = fileName.substring(0, fileName.length() - extension.length());
+                long fileStamp = stamp(path);
+                Entry entry = entries.get(fileSafeName);
+                if (entry != null && entry.fileStamp == fileStamp) {
+                    refreshed.put(fileSafeName, entry);
+                } else {
+                    headerReader.apply(path).ifPresent(metadata ->
+                            refreshed.put(fileSafeName, new Entry(metadata, fileStamp)));
+                }
+            }
+        }
+        entries = refreshed;
+        directoryStamp = refreshedStamp;
+        sorted = null;
+    }
+
+    /**
+     * Adds or replaces the entry of a save.
+     *
+     * @param metadata save metadata
+     * @param fileStamp modification stamp of the save file
+     */
+    void put(GameSaveMetadata metadata, long fileStamp) {
+        entries.put(metadata.getFileSafeName(), new Entry(metadata, fileStamp));
+        sorted = null;
+    }
+
+    /**
+     * Removes the entry of a save.
+     *
+     * @param fileSafeName sanitized save identifier
+     */
+    void remove(String fileSafeName) {
+        if (entries.remove(fileSafeName) != null) {
+            sorted = null;
+        }
+    }
+
+    /**
+     * Gets the number of indexed saves.
+     *
+     * @return save count
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets one page of saves, most recent first.
+     *
+     * @param offset index of the first save to return
+     * @param limit maximum number of saves to return
+     * @return page of metadata (empty if the offset is past the end)
+     */
+    List<GameSaveMetadata> page(int offset, int limit) {
+        if (sorted == null) {
+            sorted = new ArrayList<>(entries.size());
+            for (Entry entry : entries.values()) {
+                sorted.add(entry.metadata);
+            }
+            sorted.sort(NEWEST_FIRST);
+        }
+        int from = Math.min(Math.max(offset, 0), sorted.size());
+        int to = (int) Math.min((long) from + Math.max(limit, 0), sorted.size());
+        return new ArrayList<>(sorted.subList(from, to));
+    }
+
+    /**
+     * Writes the index back to the save directory.
+     * The file is rewritten in place, which does not change the directory's modification time; a stale or
+     * corrupt index is simply rebuilt by the next {@link #refresh}.
+     *
+     * @throws IOException if writing fails
+     */
+    void store() throws IOException {
+        Path indexPath = directory.resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexPath)) {
+            // Creating the index touches the directory; keep the stamp current if it was before
+            boolean wasCurrent = isCurrent();
+            Files.createFile(indexPath);
+            if (wasCurrent) {
+                markCurrent();
+            }
+        }
+        ByteBuffer buffer = encode();
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private ByteBuffer encode() {
+        List<byte[]> names = new ArrayList<>(entries.size() * 2);
+        int size = Integer.BYTES + 1 + Long.BYTES + 5;
+        for (Entry entry : entries.values()) {
+            byte[] fileSafeName = entry.metadata.getFileSafeName().getBytes(StandardCharsets.UTF_8);
+            byte[] displayName = entry.metadata.getDisplayName().getBytes(StandardCharsets.UTF_8);
+            names.add(fileSafeName);
+            names.add(displayName);
+            size += 10 + fileSafeName.length + displayName.length + 2 * Long.BYTES;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(directoryStamp);
+        SaveCodec.putVarint(buffer, entries.size());
+        int nameIndex = 0;
+        for (Entry entry : entries.values()) {
+            SaveCodec.putString(buffer, names.get(nameIndex++));
+            SaveCodec.putString(buffer, names.get(nameIndex++));
+            buffer.putLong(entry.metadata.getSavedAt());
+            buffer.putLong(entry.fileStamp);
+        }
+        return buffer.flip();
+    }
+
+    private static SaveCatalogue decode(Path directory, ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            throw new IOException("Unrecognised save index format");
+        }
+        long directoryStamp = buffer.getLong();
+        int count = SaveCodec.getVarint(buffer);
+        // Checked before sizing the map, so a corrupt count cannot exhaust the heap
+        if (count < 0 || count > buffer.remaining() / MIN_ENTRY_BYTES) {
+            throw new IOException("Corrupt save index entry count: " + count);
+        }
+        Map<String, Entry> entries = new HashMap<>(Math.max(16, count * 2));
+        for (int i = 0; i < count; i++) {
+            String fileSafeName = SaveCodec.getString(buffer);
+            String displayName = SaveCodec.getString(buffer);
+            long savedAt = buffer.getLong();
+            long fileStamp = buffer.getLong();
+            entries.put(fileSafeName, new Entry(new GameSaveMetadata(fileSafeName, displayName, savedAt), fileStamp));
+        }
+        return new SaveCatalogue(directory, entries, directoryStamp);
+    }
+
+    private static final class Entry {
+        private final GameSaveMetadata metadata;
+        private final long fileStamp;
+
+        private Entry(GameSaveMetadata metadata, long fileStamp) {
+            this.metadata = metadata;
+            this.fileStamp = fileStamp;
+        }
+    }
+}
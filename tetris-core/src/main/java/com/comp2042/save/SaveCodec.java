@@ -0,0 +1,313 @@
+package com.comp2042.save;
+
+import com.comp2042.GameConfig;
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encodes and decodes {@link GameSaveData} in the compact binary save format.
+ *
+ * <p>Layout (version 1, big-endian):
+ * <pre>
+ * header  int magic "TSAV", byte version, long savedAt, varint length + UTF-8 display name
+ * board   varint rows, varint columns, varint empty top rows, then the remaining cells packed 3 bits each
+ * brick   zigzag varint x, zigzag varint y, byte type code, byte rotation
+ * queue   varint count, one byte type code per queued brick
+ * score   varint score, varint lines, varint level, varint high score
+ * </pre>
+ * The file-safe name is not stored; it is the file name. The header comes first so save lists can be
+ * built by reading only the first few dozen bytes of each file.
+ */
+public final class SaveCodec {
+
+    /** Magic number at the start of every binary save ("TSAV"). */
+    public static final int MAGIC = 0x54534156;
+    /** Current format version. */
+    public static final byte VERSION = 1;
+
+    private static final int BITS_PER_CELL = 3;
+    private static final int MAX_CELL_VALUE = (1 << BITS_PER_CELL) - 1;
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private SaveCodec() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Checks whether a buffer starts with the binary save magic number.
+     * Does not move the buffer position.
+     *
+     * @param buffer buffer positioned at the start of a file
+     * @return true if the buffer holds a binary save
+     */
+    public static boolean isBinarySave(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    /**
+     * Encodes a save into a new buffer ready to be written.
+     *
+     * @param data state to encode
+     * @return flipped buffer containing the encoded save
+     * @throws IllegalArgumentException if a board cell does not fit in 3 bits
+     */
+    public static ByteBuffer encode(GameSaveData data) {
+        byte[] name = data.getDisplayName().getBytes(StandardCharsets.UTF_8);
+        int[][] board = data.getBoardMatrix();
+        int rows = board.length;
+        int columns = rows == 0 ? 0 : board[0].length;
+        int emptyTopRows = countEmptyTopRows(board);
+        int packedBytes = packedSize(rows - emptyTopRows, columns);
+        List<String> queue = data.getQueuedBrickTypes();
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + 1 + Long.BYTES
+                + MAX_VARINT_BYTES * 13 + name.length + packedBytes + 2 + queue.size());
+        buffer.putInt(MAGIC);
+        buffer.put(VERSION);
+        buffer.putLong(data.getSavedAt());
+        putString(buffer, name);
+
+        putVarint(buffer, rows);
+        putVarint(buffer, columns);
+        putVarint(buffer, emptyTopRows);
+        packCells(buffer, board, emptyTopRows, columns);
+
+        putVarint(buffer, zigzag(data.getCurrentOffsetX()));
+        putVarint(buffer, zigzag(data.getCurrentOffsetY()));
+        buffer.put((byte) BrickFactory.getTypeCode(data.getCurrentBrickType()));
+        buffer.put((byte) data.getCurrentRotationIndex());
+
+        putVarint(buffer, queue.size());
+        for (String type : queue) {
+            buffer.put((byte) BrickFactory.getTypeCode(type));
+        }
+
+        putVarint(buffer, data.getScoreValue());
+        putVarint(buffer, data.getLinesCleared());
+        putVarint(buffer, data.getLevel());
+        putVarint(buffer, data.getHighScoreValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a complete binary save.
+     *
+     * @param buffer buffer positioned at the magic number
+     * @param fileSafeName file-safe name of the save (its file name without extension)
+     * @return decoded state
+     * @throws IOException if the data is not a binary save, has an unsupported version, is truncated, has
+     *                     board dimensions outside the {@link GameConfig} limits or a falling brick that does
+     *                     not fit the board
+     */
+    public static GameSaveData decode(ByteBuffer buffer, String fileSafeName) throws IOException {
+        try {
+            long savedAt = readHeader(buffer);
+            String displayName = getString(buffer);
+
+            int rows = getVarint(buffer);
+            int columns = getVarint(buffer);
+            int emptyTopRows = getVarint(buffer);
+            // Checked before allocating, so a corrupt header cannot exhaust the heap
+            if (rows < GameConfig.MIN_HEIGHT || rows > GameConfig.MAX_HEIGHT
+                    || columns < GameConfig.MIN_WIDTH || columns > GameConfig.MAX_WIDTH
+                    || emptyTopRows < 0 || emptyTopRows > rows
+                    || packedSize(rows - emptyTopRows, columns) > buffer.remaining()) {
+                throw new IOException("Corrupt save board header");
+            }
+            int[][] board = new int[rows][columns];
+            unpackCells(buffer, board, emptyTopRows, columns);
+
+            int x = unzigzag(getVarint(buffer));
+            int y = unzigzag(getVarint(buffer));
+            String currentType = BrickFactory.getTypeName(buffer.get());
+            int rotation = buffer.get();
+            checkBrick(board, currentType, rotation, x, y);
+
+            int queueSize = getVarint(buffer);
+            if (queueSize < 0 || queueSize > buffer.remaining()) {
+                throw new IOException("Corrupt save queue");
+            }
+            List<String> queue = new ArrayList<>(queueSize);
+            for (int i = 0; i < queueSize; i++) {
+                queue.add(BrickFactory.getTypeName(buffer.get()));
+            }
+
+            return GameSaveData.builder()
+                    .displayName(displayName)
+                    .fileSafeName(fileSafeName)
+                    .savedAt(savedAt)
+                    .boardMatrix(board)
+                    .currentOffset(x, y)
+                    .currentBrickType(currentType)
+                    .currentRotationIndex(rotation)
+                    .queuedBrickTypes(queue)
+                    .scoreValue(getVarint(buffer))
+                    .linesCleared(getVarint(buffer))
+                    .level(getVarint(buffer))
+                    .highScoreValue(getVarint(buffer))
+                    .build();
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Corrupt save file: " + fileSafeName, exception);
+        }
+    }
+
+    /**
+     * Decodes only the header of a binary save, without touching the board.
+     *
+     * @param buffer buffer positioned at the magic number; it only needs to hold the header
+     * @param fileSafeName file-safe name of the save
+     * @return save metadata
+     * @throws IOException if the header is invalid or truncated
+     */
+    public static GameSaveMetadata decodeMetadata(ByteBuffer buffer, String fileSafeName) throws IOException {
+        try {
+            long savedAt = readHeader(buffer);
+            return new GameSaveMetadata(fileSafeName, getString(buffer), savedAt);
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Corrupt save header: " + fileSafeName, exception);
+        }
+    }
+
+    /**
+     * Rejects a falling brick with an unknown rotation or one that overlaps the walls, the floor or filled
+     * cells. The engine would otherwise only fail on it after the load had been reported as successful.
+     *
+     * @param board saved board
+     * @param brickType brick type name
+     * @param rotation rotation index
+     * @param x brick X coordinate
+     * @param y brick Y coordinate
+     * @throws IOException if the brick does not fit
+     */
+    static void checkBrick(int[][] board, String brickType, int rotation, int x, int y) throws IOException {
+        RotationTable rotations;
+        try {
+            rotations = BrickFactory.createBrick(brickType).getRotationTable();
+        } catch (IllegalArgumentException exception) {
+            throw new IOException("Corrupt save brick: " + brickType, exception);
+        }
+        if (rotation < 0 || rotation >= rotations.getRotationCount()
+                || MatrixOperations.intersect(board, rotations.getCellColumns(rotation),
+                        rotations.getCellRows(rotation), x, y)) {
+            throw new IOException("Corrupt save brick: " + brickType + " rotation " + rotation + " at " + x + "," + y);
+        }
+    }
+
+    private static long readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary save file");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version: " + version);
+        }
+        return buffer.getLong();
+    }
+
+    private static int packedSize(int rows, int columns) {
+        return (rows * columns * BITS_PER_CELL + 7) / 8;
+    }
+
+    private static int countEmptyTopRows(int[][] board) {
+        int emptyRows = 0;
+        for (int[] row : board) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return emptyRows;
+                }
+            }
+            emptyRows++;
+        }
+        return emptyRows;
+    }
+
+    private static void packCells(ByteBuffer buffer, int[][] board, int firstRow, int columns) {
+        long bits = 0;
+        int bitCount = 0;
+        for (int i = firstRow; i < board.length; i++) {
+            for (int j = 0; j < columns; j++) {
+                int cell = board[i][j];
+                if (cell < 0 || cell > MAX_CELL_VALUE) {
+                    throw new IllegalArgumentException("Board cell does not fit in the save format: " + cell);
+                }
+                bits |= (long) cell << bitCount;
+                bitCount += BITS_PER_CELL;
+                if (bitCount >= 8) {
+                    buffer.put((byte) bits);
+                    bits >>>= 8;
+                    bitCount -= 8;
+                }
+            }
+        }
+        if (bitCount > 0) {
+            buffer.put((byte) bits);
+        }
+    }
+
+    private static void unpackCells(ByteBuffer buffer, int[][] board, int firstRow, int columns) {
+        long bits = 0;
+        int bitCount = 0;
+        for (int i = firstRow; i < board.length; i++) {
+            for (int j = 0; j < columns; j++) {
+                if (bitCount < BITS_PER_CELL) {
+                    bits |= (long) (buffer.get() & 0xFF) << bitCount;
+                    bitCount += 8;
+                }
+                board[i][j] = (int) (bits & MAX_CELL_VALUE);
+                bits >>>= BITS_PER_CELL;
+                bitCount -= BITS_PER_CELL;
+            }
+        }
+    }
+
+    static void putString(ByteBuffer buffer, byte[] utf8) {
+        putVarint(buffer, utf8.length);
+        buffer.put(utf8);
+    }
+
+    static String getString(ByteBuffer buffer) {
+        int length = getVarint(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
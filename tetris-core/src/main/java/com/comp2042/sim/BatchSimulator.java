@@ -0,0 +1,171 @@
+package com.comp2042.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.ai.AiMovePolicy;
+import com.comp2042.ai.BeamMovePolicy;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Command-line simulator that plays many independent games in parallel for self-play statistics.
+ * Games run on a {@link ForkJoinPool}; each game derives its own seed and policy and writes its
+ * result into its own array slot, so workers share no mutable state and scale with the core count.
+ * <p>
+ * Usage: {@code BatchSimulator [--games N] [--seed S] [--threads T] [--max-pieces M] [--policy NAME]
+ * [--mode uniform|seven_bag] [--board simple|bit] [--width W] [--height H] [--hidden-rows R]
+ * [--pieces I,O,T,...]}; {@code --board} picks the {@link BoardType} to play on and the remaining board
+ * options describe the {@link GameConfig} variant to play, which defaults to the standard game.
+ */
+public final class BatchSimulator {
+
+    private static final Map<String, LongFunction<MovePolicy>> POLICIES = new LinkedHashMap<>();
+
+    static {
+        POLICIES.put("random", RandomMovePolicy::new);
+        POLICIES.put("ai", AiMovePolicy::new);
+        POLICIES.put("beam", BeamMovePolicy::new);
+    }
+
+    private final GameConfig config;
+    private final BoardType boardType;
+    private final LongFunction<MovePolicy> policyFactory;
+    private final SeededBrickGenerator.Mode mode;
+    private final int maxPieces;
+
+    /**
+     * Constructor to create a simulator.
+     *
+     * @param config game variant to play
+     * @param policyFactory creates a fresh policy for each game from the game seed
+     * @param mode brick distribution
+     * @param maxPieces maximum number of bricks per game
+     */
+    public BatchSimulator(GameConfig config, LongFunction<MovePolicy> policyFactory, SeededBrickGenerator.Mode mode,
+                          int maxPieces) {
+        this(config, BoardType.SIMPLE, policyFactory, mode, maxPieces);
+    }
+
+    /**
+     * Constructor to create a simulator playing on the given board implementation.
+     *
+     * @param config game variant to play
+     * @param boardType board implementation to play on
+     * @param policyFactory creates a fresh policy for each game from the game seed
+     * @param mode brick distribution
+     * @param maxPieces maximum number of bricks per game
+     */
+    public BatchSimulator(GameConfig config, BoardType boardType, LongFunction<MovePolicy> policyFactory,
+                          SeededBrickGenerator.Mode mode, int maxPieces) {
+        this.config = config;
+        this.boardType = boardType;
+        this.policyFactory = policyFactory;
+        this.mode = mode;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays a batch of games on a dedicated fork-join pool.
+     * Game {@code i} uses the seed {@link SeededBrickGenerator#deriveSeed(long, long)} of the base seed and
+     * {@code i}, so every game is bit-for-bit reproducible on its own, regardless of the thread count or of
+     * which machine plays it.
+     *
+     * @param games number of games
+     * @param baseSeed base seed
+     * @param threads worker thread count
+     * @return per-game results, indexed by game number
+     */
+    public GameResult[] run(int games, long baseSeed, int threads) {
+        GameResult[] results = new GameResult[games];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.submit(() -> IntStream.range(0, games).parallel().forEach(i -> {
+                long gameSeed = SeededBrickGenerator.deriveSeed(baseSeed, i);
+                results[i] = GameSimulator.playGame(config, boardType, gameSeed, mode, policyFactory.apply(gameSeed),
+                        maxPieces);
+            })).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Simulation failed", exception.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        return results;
+    }
+
+    /**
+     * Command-line entry point.
+     *
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        long seed = 42L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxPieces = 10_000;
+        String policyName = "random";
+        SeededBrickGenerator.Mode mode = SeededBrickGenerator.Mode.UNIFORM;
+        BoardType boardType = BoardType.SIMPLE;
+        GameConfig.Builder configBuilder = GameConfig.builder();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--games" -> games = Integer.parseInt(args[i + 1]);
+                case "--seed" -> seed = Long.parseLong(args[i + 1]);
+                case "--threads" -> threads = Integer.parseInt(args[i + 1]);
+                case "--max-pieces" -> maxPieces = Integer.parseInt(args[i + 1]);
+                case "--policy" -> policyName = args[i + 1];
+                case "--mode" -> mode = SeededBrickGenerator.Mode.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                case "--board" -> boardType = BoardType.valueOf(args[i + 1].toUpperCase(Locale.ROOT));
+                case "--width" -> configBuilder.width(Integer.parseInt(args[i + 1]));
+                case "--height" -> configBuilder.height(Integer.parseInt(args[i + 1]));
+                case "--hidden-rows" -> configBuilder.hiddenRows(Integer.parseInt(args[i + 1]));
+                case "--pieces" -> configBuilder.pieces(parsePieceTypes(args[i + 1]));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        LongFunction<MovePolicy> policyFactory = POLICIES.get(policyName);
+        if (policyFactory == null) {
+            throw new IllegalArgumentException("Unknown policy: " + policyName + ", expected one of " + POLICIES.keySet());
+        }
+
+        GameConfig config = configBuilder.build();
+        BatchSimulator simulator = new BatchSimulator(config, boardType, policyFactory, mode, maxPieces);
+        long start = System.nanoTime();
+        GameResult[] results = simulator.run(games, seed, threads);
+        SimulationReport report = new SimulationReport(results, System.nanoTime() - start);
+        System.out.println("policy:         " + policyName + " (" + threads + " threads, " + mode + ")");
+        if (boardType != BoardType.SIMPLE) {
+            System.out.println("board type:     " + boardType);
+        }
+        if (!config.equals(GameConfig.standard())) {
+            System.out.println("board:          " + config);
+        }
+        System.out.print(report.format());
+    }
+
+    /**
+     * Parses a comma-separated piece list; single letters are short for the standard bricks, e.g. {@code T}
+     * for {@code TBrick}.
+     *
+     * @param list piece list
+     * @return brick type names
+     */
+    private static List<String> parsePieceTypes(String list) {
+        List<String> types = new ArrayList<>();
+        for (String name : list.split(",")) {
+            String trimmed = name.trim();
+            types.add(trimmed.length() == 1 ? trimmed.toUpperCase(Locale.ROOT) + "Brick" : trimmed);
+        }
+        return types;
+    }
+}
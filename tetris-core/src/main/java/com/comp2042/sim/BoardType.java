@@ -0,0 +1,41 @@
+package com.comp2042.sim;
+
+import com.comp2042.BitBoard;
+import com.comp2042.Board;
+import com.comp2042.GameConfig;
+import com.comp2042.Score;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Board implementations a simulated game can run on. Both follow the same rules, so a seed plays out the same
+ * game on either; only the speed differs.
+ */
+public enum BoardType {
+
+    /** Row-array board used by the game itself. */
+    SIMPLE {
+        @Override
+        public Board create(GameConfig config, BrickGenerator brickGenerator, Score score) {
+            return new SimpleBoard(config, brickGenerator, score);
+        }
+    },
+
+    /** Bitmask-per-row board. */
+    BIT {
+        @Override
+        public Board create(GameConfig config, BrickGenerator brickGenerator, Score score) {
+            return new BitBoard(config, brickGenerator, score);
+        }
+    };
+
+    /**
+     * Creates an empty board of this type.
+     *
+     * @param config game configuration
+     * @param brickGenerator generator supplying the brick sequence
+     * @param score score tracker
+     * @return new board
+     */
+    public abstract Board create(GameConfig config, BrickGenerator brickGenerator, Score score);
+}
@@ -0,0 +1,75 @@
+package com.comp2042.sim;
+
+/**
+ * Outcome of a single simulated game.
+ */
+public final class GameResult {
+
+    private final long seed;
+    private final int score;
+    private final int linesCleared;
+    private final int piecesPlaced;
+    private final boolean toppedOut;
+
+    /**
+     * Constructor to create a game result.
+     *
+     * @param seed seed the game was played with
+     * @param score final score
+     * @param linesCleared total cleared lines
+     * @param piecesPlaced number of bricks locked
+     * @param toppedOut true if the game ended because a brick could not spawn
+     */
+    public GameResult(long seed, int score, int linesCleared, int piecesPlaced, boolean toppedOut) {
+        this.seed = seed;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.piecesPlaced = piecesPlaced;
+        this.toppedOut = toppedOut;
+    }
+
+    /**
+     * Gets the game seed.
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the final score.
+     *
+     * @return score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the number of cleared lines.
+     *
+     * @return lines cleared
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the number of locked bricks.
+     *
+     * @return pieces placed
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Indicates whether the game ended by topping out rather than hitting the piece limit.
+     *
+     * @return true if the game topped out
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
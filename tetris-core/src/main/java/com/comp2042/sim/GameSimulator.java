@@ -0,0 +1,88 @@
+package com.comp2042.sim;
+
+import com.comp2042.Board;
+import com.comp2042.GameConfig;
+import com.comp2042.GameEngine;
+import com.comp2042.Score;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+/**
+ * Plays a single headless game with a {@link MovePolicy}.
+ * Every game gets its own seeded generator, board, detached score and engine,
+ * so games can run concurrently without sharing mutable state.
+ */
+public final class GameSimulator {
+
+    private GameSimulator() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Plays one game until it tops out or the piece limit is reached.
+     * For each brick the policy picks a placement, which is reached with ordinary rotate and
+     * left/right moves (so blocked moves stay blocked) before the brick is dropped and locked.
+     *
+     * @param seed seed for the brick sequence
+     * @param mode brick distribution
+     * @param policy move policy owned by this game
+     * @param maxPieces maximum number of bricks to lock
+     * @return game result
+     */
+    public static GameResult playGame(long seed, SeededBrickGenerator.Mode mode, MovePolicy policy, int maxPieces) {
+        return playGame(GameConfig.standard(), seed, mode, policy, maxPieces);
+    }
+
+    /**
+     * Plays one game of a variant until it tops out or the piece limit is reached.
+     *
+     * @param config game configuration
+     * @param seed seed for the brick sequence
+     * @param mode brick distribution
+     * @param policy move policy owned by this game
+     * @param maxPieces maximum number of bricks to lock
+     * @return game result
+     */
+    public static GameResult playGame(GameConfig config, long seed, SeededBrickGenerator.Mode mode,
+                                      MovePolicy policy, int maxPieces) {
+        return playGame(config, BoardType.SIMPLE, seed, mode, policy, maxPieces);
+    }
+
+    /**
+     * Plays one game of a variant on the given board implementation until it tops out or the piece limit is
+     * reached.
+     *
+     * @param config game configuration
+     * @param boardType board implementation to play on
+     * @param seed seed for the brick sequence
+     * @param mode brick distribution
+     * @param policy move policy owned by this game
+     * @param maxPieces maximum number of bricks to lock
+     * @return game result
+     */
+    public static GameResult playGame(GameConfig config, BoardType boardType, long seed,
+                                      SeededBrickGenerator.Mode mode, MovePolicy policy, int maxPieces) {
+        Board board = boardType.create(config, new SeededBrickGenerator(seed, mode, config.getPieces()),
+                new Score(false));
+        GameEngine engine = new GameEngine(board);
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < maxPieces) {
+            Placement placement = policy.choosePlacement(board);
+            for (int i = 0; i < placement.getRotation() && board.getBrickRotation() != placement.getRotation(); i++) {
+                if (!board.rotateLeftBrick()) {
+                    break;
+                }
+            }
+            while (board.getBrickX() > placement.getX() && board.moveBrickLeft()) {
+                // keep shifting left
+            }
+            while (board.getBrickX() < placement.getX() && board.moveBrickRight()) {
+                // keep shifting right
+            }
+            board.hardDropBrick();
+            engine.lockBrick();
+            pieces++;
+        }
+        Score score = board.getScore();
+        return new GameResult(seed, score.getValue(), score.getLinesCleared(), pieces, engine.isGameOver());
+    }
+}
@@ -0,0 +1,20 @@
+package com.comp2042.sim;
+
+import com.comp2042.Board;
+
+/**
+ * Strategy that decides where the current brick should be dropped during a simulated game.
+ * Each simulated game owns its policy instance, so implementations may keep per-game state
+ * without synchronization.
+ */
+@FunctionalInterface
+public interface MovePolicy {
+
+    /**
+     * Chooses a placement for the brick that has just spawned on the board.
+     *
+     * @param board board with the current brick at its spawn position (must not be modified)
+     * @return target rotation and X coordinate
+     */
+    Placement choosePlacement(Board board);
+}
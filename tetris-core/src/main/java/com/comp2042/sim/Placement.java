@@ -0,0 +1,40 @@
+package com.comp2042.sim;
+
+/**
+ * Target placement chosen by a {@link MovePolicy} for the current brick:
+ * the rotation index to reach and the X coordinate to drop from.
+ */
+public final class Placement {
+
+    private final int rotation;
+    private final int x;
+
+    /**
+     * Constructor to create a placement.
+     *
+     * @param rotation target rotation index
+     * @param x target brick X coordinate
+     */
+    public Placement(int rotation, int x) {
+        this.rotation = rotation;
+        this.x = x;
+    }
+
+    /**
+     * Gets the target rotation index.
+     *
+     * @return rotation index
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the target X coordinate.
+     *
+     * @return brick X coordinate
+     */
+    public int getX() {
+        return x;
+    }
+}
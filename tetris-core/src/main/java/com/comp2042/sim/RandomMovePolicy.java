@@ -0,0 +1,32 @@
+package com.comp2042.sim;
+
+import com.comp2042.Board;
+import com.comp2042.logic.bricks.RotationTable;
+
+import java.util.SplittableRandom;
+
+/**
+ * Baseline policy that drops every brick at a uniformly random rotation and column.
+ */
+public final class RandomMovePolicy implements MovePolicy {
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructor to create a seeded random policy.
+     *
+     * @param seed random seed
+     */
+    public RandomMovePolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public Placement choosePlacement(Board board) {
+        RotationTable rotationTable = board.getCurrentRotationTable();
+        int rotation = random.nextInt(rotationTable.getRotationCount());
+        int minX = -rotationTable.getMinColumn(rotation);
+        int maxX = board.getConfig().getWidth() - 1 - rotationTable.getMaxColumn(rotation);
+        return new Placement(rotation, minX + random.nextInt(maxX - minX + 1));
+    }
+}
@@ -0,0 +1,123 @@
+package com.comp2042.sim;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Aggregate statistics over a batch of simulated games.
+ */
+public final class SimulationReport {
+
+    private final int games;
+    private final long totalPieces;
+    private final long totalLines;
+    private final int toppedOut;
+    private final double elapsedSeconds;
+    private final int[] sortedScores;
+
+    /**
+     * Constructor that aggregates the given results.
+     *
+     * @param results per-game results
+     * @param elapsedNanos wall-clock time spent playing the batch
+     */
+    public SimulationReport(GameResult[] results, long elapsedNanos) {
+        this.games = results.length;
+        long pieces = 0;
+        long lines = 0;
+        int tops = 0;
+        sortedScores = new int[results.length];
+        for (int i = 0; i < results.length; i++) {
+            pieces += results[i].getPiecesPlaced();
+            lines += results[i].getLinesCleared();
+            if (results[i].isToppedOut()) {
+                tops++;
+            }
+            sortedScores[i] = results[i].getScore();
+        }
+        Arrays.sort(sortedScores);
+        this.totalPieces = pieces;
+        this.totalLines = lines;
+        this.toppedOut = tops;
+        this.elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Gets the number of games in the batch.
+     *
+     * @return game count
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the average number of cleared lines per game.
+     *
+     * @return lines per game
+     */
+    public double getLinesPerGame() {
+        return games == 0 ? 0 : (double) totalLines / games;
+    }
+
+    /**
+     * Gets the throughput of the batch in locked bricks per wall-clock second.
+     *
+     * @return pieces per second
+     */
+    public double getPiecesPerSecond() {
+        return elapsedSeconds <= 0 ? 0 : totalPieces / elapsedSeconds;
+    }
+
+    /**
+     * Gets the fraction of games that ended by topping out.
+     *
+     * @return top-out rate between 0 and 1
+     */
+    public double getTopOutRate() {
+        return games == 0 ? 0 : (double) toppedOut / games;
+    }
+
+    /**
+     * Gets the average final score.
+     *
+     * @return mean score
+     */
+    public double getMeanScore() {
+        return games == 0 ? 0 : Arrays.stream(sortedScores).asLongStream().sum() / (double) games;
+    }
+
+    /**
+     * Gets a score percentile using the nearest-rank method.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return score at the percentile, or 0 for an empty batch
+     */
+    public int getScorePercentile(double percentile) {
+        if (games == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * games);
+        return sortedScores[Math.min(games - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * Formats the report as human-readable text.
+     *
+     * @return multi-line report
+     */
+    public String format() {
+        return String.format(Locale.ROOT,
+                "games:          %d%n"
+                        + "elapsed:        %.2f s%n"
+                        + "pieces/sec:     %.0f%n"
+                        + "lines/game:     %.2f%n"
+                        + "top-out rate:   %.2f%%%n"
+                        + "score mean:     %.1f%n"
+                        + "score min/p25/p50/p75/p90/max: %d / %d / %d / %d / %d / %d%n",
+                games, elapsedSeconds, getPiecesPerSecond(), getLinesPerGame(), getTopOutRate() * 100,
+                getMeanScore(),
+                getScorePercentile(0), getScorePercentile(25), getScorePercentile(50),
+                getScorePercentile(75), getScorePercentile(90), getScorePercentile(100));
+    }
+}
@@ -11,9 +11,10 @@ public final class GameConstants {
         throw new AssertionError("Cannot instantiate utility class");
     }
     
-    // Board dimensions
+    // Standard board dimensions; variants are described by GameConfig
     public static final int BOARD_WIDTH = 10;
     public static final int BOARD_HEIGHT = 25;
+    public static final int HIDDEN_ROWS = 2; // Top rows that bricks spawn into but that are not displayed
     
     // Initial brick position (top of the board)
     public static final int INITIAL_BRICK_X = 4;
@@ -23,12 +24,23 @@ public final class GameConstants {
     public static final int BRICK_SIZE = 20;
     public static final int GAME_WINDOW_WIDTH = 420; // Increased to accommodate expanded side panel
     public static final int GAME_WINDOW_HEIGHT = 510;
-    public static final int DISPLAY_OFFSET_Y = -42;
+    public static final double GHOST_OPACITY = 0.3; // Opacity of the ghost piece drawn at the landing position
     
     // Game loop
     public static final int GAME_LOOP_INTERVAL_MS = 400;
     public static final int GAME_LOOP_INTERVAL_DECREMENT_MS = 30;
     public static final int GAME_LOOP_MIN_INTERVAL_MS = 180;
+    public static final int TICK_MS = 10; // Fixed simulation step; drop intervals are whole numbers of ticks
+    public static final int MAX_CATCH_UP_TICKS = 25; // Backlog beyond this is dropped after a stall
+    public static final int INPUT_QUEUE_CAPACITY = 64; // Commands waiting for the engine thread; a power of two
+    
+    // Key autorepeat
+    public static final int DAS_MS = 170; // Delay before a held left/right key starts repeating
+    public static final int ARR_MS = 50; // Interval between repeated left/right moves
+    public static final int SOFT_DROP_REPEAT_MS = 30; // Interval between repeated down moves while held
+
+    // Replays
+    public static final int REPLAY_FAST_FORWARD_SPEED = 10; // Ticks played per real tick when fast-forwarding
     
     // Score calculation
     public static final int BASE_SCORE_PER_DOWN = 1;
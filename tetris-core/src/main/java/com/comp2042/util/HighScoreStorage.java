@@ -1,8 +1,9 @@
 package com.comp2042.util;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -10,6 +11,8 @@ import java.util.Properties;
 
 /**
  * Utility class responsible for persisting and loading the game high score.
+ * Saving is asynchronous through {@link PersistenceWriter}, so a record run that raises the high score
+ * on every line clear costs at most one file write per burst and never blocks the caller.
  */
 public final class HighScoreStorage {
 
@@ -27,6 +30,7 @@ public final class HighScoreStorage {
      */
     public static int loadHighScore() {
         Path filePath = getFilePath();
+        PersistenceWriter.awaitPending(filePath);
         Properties properties = new Properties();
         if (Files.exists(filePath)) {
             try (InputStream inputStream = Files.newInputStream(filePath)) {
@@ -40,24 +44,29 @@ public final class HighScoreStorage {
     }
 
     /**
-     * Saves the provided high score to disk.
+     * Queues the provided high score to be saved to disk on the persistence writer thread.
+     * If an earlier high score is still waiting to be written, it is replaced.
      *
      * @param highScore current high score
      */
     public static void saveHighScore(int highScore) {
         Path filePath = getFilePath();
+        PersistenceWriter.submit(filePath, () -> writeHighScore(filePath, highScore))
+                .exceptionally(exception -> {
+                    System.err.println("Failed to save high score: " + exception.getMessage());
+                    return null;
+                });
+    }
+
+    private static void writeHighScore(Path filePath, int highScore) throws IOException {
         Properties properties = new Properties();
         properties.setProperty(PROPERTY_KEY, String.valueOf(highScore));
-        try {
-            if (filePath.getParent() != null) {
-                Files.createDirectories(filePath.getParent());
-            }
-            try (OutputStream outputStream = Files.newOutputStream(filePath)) {
-                properties.store(outputStream, "Tetris High Score");
-            }
-        } catch (IOException exception) {
-            System.err.println("Failed to save high score: " + exception.getMessage());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        properties.store(outputStream, "Tetris High Score");
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
         }
+        PersistenceWriter.writeAtomically(filePath, ByteBuffer.wrap(outputStream.toByteArray()));
     }
 
     private static Path getFilePath() {
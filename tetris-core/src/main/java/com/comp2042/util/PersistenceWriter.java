@@ -0,0 +1,190 @@
+package com.comp2042.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Background writer that keeps disk I/O off the game and UI threads.
+ *
+ * <p>Writes are keyed by their target file and run in submission order on a single daemon thread.
+ * A write submitted while an earlier write to the same file is still queued replaces it (last value
+ * wins), so a burst of updates costs one disk write. Pending writes are flushed when the JVM shuts down.
+ */
+public final class PersistenceWriter {
+
+    /**
+     * A unit of disk work executed on the writer thread.
+     */
+    @FunctionalInterface
+    public interface WriteTask {
+
+        /**
+         * Performs the write.
+         *
+         * @throws IOException if writing fails
+         */
+        void write() throws IOException;
+    }
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Object LOCK = new Object();
+    private static final Map<Path, PendingWrite> QUEUED = new HashMap<>();
+    private static final Map<Path, CompletableFuture<Void>> LATEST = new HashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "persistence-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static volatile Thread writerThread;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PersistenceWriter::flush, "persistence-flush"));
+    }
+
+    private PersistenceWriter() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+
+    /**
+     * Queues a write to the given file, replacing any queued write to the same file that has not started yet.
+     *
+     * @param target file the task writes
+     * @param task write to perform on the writer thread
+     * @return future completed once the task, or a later task that replaced it, has run
+     */
+    public static CompletableFuture<Void> submit(Path target, WriteTask task) {
+        Path key = target.toAbsolutePath().normalize();
+        synchronized (LOCK) {
+            PendingWrite queued = QUEUED.get(key);
+            if (queued != null) {
+                queued.task = task;
+                return queued.future;
+            }
+            PendingWrite pendingWrite = new PendingWrite(task);
+            QUEUED.put(key, pendingWrite);
+            LATEST.put(key, pendingWrite.future);
+            EXECUTOR.execute(() -> runPending(key));
+            return pendingWrite.future;
+        }
+    }
+
+    /**
+     * Blocks until every write submitted so far has completed.
+     */
+    public static void flush() {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        try {
+            EXECUTOR.submit(() -> { }).get();
+        } catch (Exception exception) {
+            System.err.println("Failed to flush pending writes: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until any queued or running write to the given file has completed, so it can be read back.
+     *
+     * @param target file about to be read or deleted
+     */
+    public static void awaitPending(Path target) {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        CompletableFuture<Void> future;
+        synchronized (LOCK) {
+            future = LATEST.get(target.toAbsolutePath().normalize());
+        }
+        if (future != null) {
+            // Failures are reported to the submitter; here we only wait for the file to settle
+            future.exceptionally(exception -> null).join();
+        }
+    }
+
+    /**
+     * Blocks until every queued or running write to a file inside the given directory has completed, e.g.
+     * before listing the directory. Writes to other files are not waited for.
+     *
+     * @param directory directory about to be listed
+     */
+    public static void awaitPendingIn(Path directory) {
+        if (Thread.currentThread() == writerThread) {
+            return;
+        }
+        Path key = directory.toAbsolutePath().normalize();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        synchronized (LOCK) {
+            LATEST.forEach((target, future) -> {
+                if (key.equals(target.getParent())) {
+                    pending.add(future);
+                }
+            });
+        }
+        for (CompletableFuture<Void> future : pending) {
+            future.exceptionally(exception -> null).join();
+        }
+    }
+
+    /**
+     * Replaces a file atomically: the content is written and forced to a temporary sibling file,
+     * which is then renamed over the target. Readers see either the old or the new file, never a partial one.
+     *
+     * @param target file to replace
+     * @param content bytes to write
+     * @throws IOException if writing or renaming fails
+     */
+    public static void writeAtomically(Path target, ByteBuffer content) throws IOException {
+        Path tempFile = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(false);
+        }
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void runPending(Path key) {
+        writerThread = Thread.currentThread();
+        PendingWrite pendingWrite;
+        synchronized (LOCK) {
+            pendingWrite = QUEUED.remove(key);
+        }
+        try {
+            pendingWrite.task.write();
+            pendingWrite.future.complete(null);
+        } catch (IOException | RuntimeException exception) {
+            pendingWrite.future.completeExceptionally(exception);
+        }
+        synchronized (LOCK) {
+            LATEST.remove(key, pendingWrite.future);
+        }
+    }
+
+    private static final class PendingWrite {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private WriteTask task;
+
+        private PendingWrite(WriteTask task) {
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded lock-free queue for exactly one producer thread and one consumer thread.
+ * The producer only writes the tail index and the consumer only writes the head index, so neither
+ * side ever blocks or retries: {@link #offer(Object)} fails fast when the ring is full.
+ *
+ * @param <E> element type
+ */
+public final class SpscRing<E> {
+
+    private final Object[] elements;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Constructor to create an empty ring.
+     *
+     * @param capacity maximum number of queued elements; must be a power of two
+     */
+    public SpscRing(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        this.elements = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an element at the tail. Must only be called from the producer thread.
+     *
+     * @param element element to add
+     * @return true if added, false if the ring is full
+     */
+    public boolean offer(E element) {
+        long currentTail = tail.get();
+        if (currentTail - head.getAcquire() == elements.length) {
+            return false;
+        }
+        elements[(int) currentTail & mask] = element;
+        // Release ordering publishes the element before the consumer can see the new tail
+        tail.setRelease(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the element at the head. Must only be called from the consumer thread.
+     *
+     * @return the oldest element, or null if the ring is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long currentHead = head.get();
+        if (currentHead == tail.getAcquire()) {
+            return null;
+        }
+        int index = (int) currentHead & mask;
+        E element = (E) elements[index];
+        elements[index] = null;
+        head.setRelease(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Gets the maximum number of queued elements.
+     *
+     * @return capacity
+     */
+    public int capacity() {
+        return elements.length;
+    }
+}
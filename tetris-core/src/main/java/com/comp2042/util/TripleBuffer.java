@@ -0,0 +1,69 @@
+package com.comp2042.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free handoff of the latest value from one writer thread to one reader thread.
+ *
+ * <p>Three preallocated slots rotate between the writer (back), the handoff (middle) and the reader
+ * (front). The writer fills the back slot and swaps it into the middle; the reader swaps the middle
+ * out when it holds something newer. Each side owns its slot exclusively, so the reader's slot never
+ * changes while it is being read, neither side waits for the other, and intermediate values the
+ * reader was too slow to see are simply skipped.
+ *
+ * @param <T> slot type
+ */
+public final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;
+    private int front = 2;
+
+    /**
+     * Constructor to create the three slots.
+     *
+     * @param slotFactory creates each slot
+     */
+    public TripleBuffer(Supplier<T> slotFactory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slotFactory.get();
+        }
+    }
+
+    /**
+     * Gets the slot the writer fills next. Must only be called from the writer thread.
+     *
+     * @return back slot
+     */
+    @SuppressWarnings("unchecked")
+    public T writeSlot() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Publishes the filled back slot to the reader and takes over the previous middle slot.
+     * Must only be called from the writer thread.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the most recently published slot, which stays untouched by the writer until the next call.
+     * Must only be called from the reader thread.
+     *
+     * @return front slot; the same slot as last time if nothing new was published
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+}
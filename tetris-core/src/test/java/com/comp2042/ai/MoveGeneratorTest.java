@@ -0,0 +1,111 @@
+package com.comp2042.ai;
+
+import com.comp2042.EventType;
+import com.comp2042.GameConfig;
+import com.comp2042.Score;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.RotationTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.save.GameSaveData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MoveGenerator}.
+ */
+class MoveGeneratorTest {
+
+    private static final GameConfig CONFIG = GameConfig.standard();
+    private static final int SHELF_WIDTH = 4;
+
+    @Test
+    void findsTuckUnderOverhang() {
+        AiBoard board = new AiBoard(CONFIG);
+        board.load(shelfBoard());
+        RotationTable brick = BrickFactory.createBrick("OBrick").getRotationTable();
+        MoveGenerator generator = new MoveGenerator(board);
+        generator.generate(board, brick);
+
+        // The O brick fills columns x + 1 and x + 2 and rows y + 1 and y + 2 of its box
+        int tuckX = -1;
+        int tuckY = CONFIG.getHeight() - 3;
+        int lock = generator.findLock(tuckX, tuckY, 0);
+        assertTrue(lock >= 0);
+        assertNotEquals(tuckY, board.dropRow(brick.getRowMasks(0), tuckX, board.getSpawnY()));
+        assertEquals(EventType.HARD_DROP, lastMove(generator, lock));
+    }
+
+    @Test
+    void pathsReplayToTheirLockOnSimpleBoard() {
+        int[][] matrix = shelfBoard();
+        AiBoard board = new AiBoard(CONFIG);
+        board.load(matrix);
+        RotationTable brick = BrickFactory.createBrick("TBrick").getRotationTable();
+        MoveGenerator generator = new MoveGenerator(board);
+        int locks = generator.generate(board, brick);
+        assertTrue(locks > 0);
+
+        EventType[] path = new EventType[CONFIG.getWidth() * CONFIG.getHeight() * 4];
+        boolean sawTuck = false;
+        for (int lock = 0; lock < locks; lock++) {
+            SimpleBoard simpleBoard = new SimpleBoard(CONFIG,
+                    new SeededBrickGenerator(1, SeededBrickGenerator.Mode.UNIFORM, CONFIG.getPieces()),
+                    new Score(false));
+            simpleBoard.restoreState(spawnState(matrix, "TBrick"));
+            int length = generator.getPath(lock, path);
+            for (int i = 0; i < length - 1; i++) {
+                assertTrue(apply(simpleBoard, path[i]), "illegal " + path[i] + " at step " + i);
+            }
+            assertEquals(EventType.HARD_DROP, path[length - 1]);
+            simpleBoard.hardDropBrick();
+            assertEquals(generator.getLockX(lock), simpleBoard.getBrickX());
+            assertEquals(generator.getLockY(lock), simpleBoard.getBrickY());
+            assertEquals(generator.getLockRotation(lock), simpleBoard.getBrickRotation());
+            sawTuck |= simpleBoard.getBrickY() > CONFIG.getHeight() - 4 && simpleBoard.getBrickX() < SHELF_WIDTH - 1;
+        }
+        assertTrue(sawTuck);
+    }
+
+    /**
+     * Empty board with a shelf of {@link #SHELF_WIDTH} cells on the left, two rows above the floor, leaving a
+     * two-row gap underneath that can only be entered from the side.
+     */
+    private static int[][] shelfBoard() {
+        int[][] matrix = new int[CONFIG.getHeight()][CONFIG.getWidth()];
+        for (int column = 0; column < SHELF_WIDTH; column++) {
+            matrix[CONFIG.getHeight() - 3][column] = 1;
+        }
+        return matrix;
+    }
+
+    private static GameSaveData spawnState(int[][] matrix, String brickType) {
+        return GameSaveData.builder()
+                .boardMatrix(matrix)
+                .currentOffset(CONFIG.getSpawnX(), CONFIG.getSpawnY())
+                .currentBrickType(brickType)
+                .currentRotationIndex(0)
+                .queuedBrickTypes(List.of())
+                .build();
+    }
+
+    private static EventType lastMove(MoveGenerator generator, int lock) {
+        EventType[] path = new EventType[generator.getPathLength(lock)];
+        return path[generator.getPath(lock, path) - 1];
+    }
+
+    private static boolean apply(SimpleBoard board, EventType move) {
+        return switch (move) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case DOWN -> board.moveBrickDown();
+            case ROTATE -> board.rotateLeftBrick();
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link BrickFactory}.
+ */
+class BrickFactoryTest {
+
+    @Test
+    void standardBricksKeepTheirTypeCodes() {
+        List<Brick> bricks = BrickFactory.standardBricks();
+        for (int code = 0; code < bricks.size(); code++) {
+            String typeName = BrickFactory.getTypeName(bricks.get(code));
+            assertEquals(code, BrickFactory.getTypeCode(typeName));
+            assertEquals(typeName, BrickFactory.getTypeName(code));
+        }
+    }
+
+    @Test
+    void registerRejectsColoursOutsideTheSaveRange() {
+        assertThrows(IllegalArgumentException.class, () -> BrickFactory.register(new WideColourBrick()));
+        assertThrows(IllegalArgumentException.class, () -> BrickFactory.createBrick("WideColourBrick"));
+    }
+
+    @Test
+    void registerRejectsNegativeColours() {
+        assertThrows(IllegalArgumentException.class, () -> BrickFactory.register(new NegativeColourBrick()));
+        assertThrows(IllegalArgumentException.class, () -> BrickFactory.createBrick("NegativeColourBrick"));
+    }
+
+    /**
+     * Valid first rotation, colour 8 in the second, which does not fit the 3-bit save cells.
+     */
+    private static final class WideColourBrick implements Brick {
+
+        private static final RotationTable ROTATIONS = RotationTable.of(
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {1, 1, 1, 1},
+                        {0, 0, 0, 0},
+                        {0, 0, 0, 0}
+                },
+                new int[][]{
+                        {0, 8, 0, 0},
+                        {0, 8, 0, 0},
+                        {0, 8, 0, 0},
+                        {0, 8, 0, 0}
+                }
+        );
+
+        @Override
+        public List<int[][]> getShapeMatrix() {
+            return ROTATIONS.copyShapes();
+        }
+
+        @Override
+        public RotationTable getRotationTable() {
+            return ROTATIONS;
+        }
+    }
+
+    private static final class NegativeColourBrick implements Brick {
+
+        private static final RotationTable ROTATIONS = RotationTable.of(
+                new int[][]{
+                        {0, 0, 0, 0},
+                        {0, -1, -1, 0},
+                        {0, -1, -1, 0},
+                        {0, 0, 0, 0}
+                }
+        );
+
+        @Override
+        public List<int[][]> getShapeMatrix() {
+            return ROTATIONS.copyShapes();
+        }
+
+        @Override
+        public RotationTable getRotationTable() {
+            return ROTATIONS;
+        }
+    }
+}
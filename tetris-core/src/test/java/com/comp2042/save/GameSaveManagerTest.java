@@ -0,0 +1,129 @@
+package com.comp2042.save;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GameSaveManager} against a save folder in a temporary home directory.
+ */
+class GameSaveManagerTest {
+
+    @TempDir
+    Path home;
+
+    private String originalHome;
+
+    @BeforeEach
+    void useTemporaryHome() {
+        originalHome = System.getProperty("user.home");
+        System.setProperty("user.home", home.toString());
+    }
+
+    @AfterEach
+    void restoreHome() {
+        System.setProperty("user.home", originalHome);
+    }
+
+    @Test
+    void savedGameLoadsBack() throws Exception {
+        GameSaveData data = SaveCodecTest.sampleSave("binary");
+
+        GameSaveManager.saveGame(data);
+        Optional<GameSaveData> loaded = GameSaveManager.loadGame("binary");
+
+        assertTrue(loaded.isPresent());
+        SaveCodecTest.assertSameSave(data, loaded.get());
+    }
+
+    @Test
+    void missingSaveLoadsAsEmpty() throws Exception {
+        assertFalse(GameSaveManager.loadGame("missing").isPresent());
+    }
+
+    @Test
+    void legacySerializedSaveIsReadAndMigrated() throws Exception {
+        GameSaveData data = SaveCodecTest.sampleSave("legacy");
+        Path file = home.resolve(".tetris_saves").resolve("legacy.sav");
+        Files.createDirectories(file.getParent());
+        try (OutputStream output = Files.newOutputStream(file);
+             ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+            objectOutput.writeObject(data);
+        }
+        assertFalse(SaveCodec.isBinarySave(ByteBuffer.wrap(Files.readAllBytes(file))));
+
+        Optional<GameSaveData> legacy = GameSaveManager.loadGame("legacy");
+
+        assertTrue(legacy.isPresent());
+        SaveCodecTest.assertSameSave(data, legacy.get());
+        assertTrue(SaveCodec.isBinarySave(ByteBuffer.wrap(Files.readAllBytes(file))),
+                "legacy save should be rewritten in the binary format");
+        SaveCodecTest.assertSameSave(data, GameSaveManager.loadGame("legacy").orElseThrow());
+    }
+
+    @Test
+    void corruptSaveFailsWithIOException() throws IOException {
+        Path file = home.resolve(".tetris_saves").resolve("corrupt.sav");
+        Files.createDirectories(file.getParent());
+        ByteBuffer encoded = SaveCodec.encode(SaveCodecTest.sampleSave("corrupt"));
+        byte[] bytes = new byte[encoded.remaining() / 2];
+        encoded.get(bytes);
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> GameSaveManager.loadGame("corrupt"));
+    }
+
+    @Test
+    void asyncListingSeesQueuedSaveAndDelete() throws Exception {
+        GameSaveManager.saveGameAsync(SaveCodecTest.sampleSave("queued"));
+
+        List<GameSaveMetadata> saves = GameSaveManager.listSavesAsync().get(5, TimeUnit.SECONDS);
+        assertEquals(1, saves.size());
+        assertEquals("queued", saves.get(0).getFileSafeName());
+        assertTrue(GameSaveManager.saveExistsAsync("queued").get(5, TimeUnit.SECONDS));
+
+        assertTrue(GameSaveManager.deleteSaveAsync("queued").get(5, TimeUnit.SECONDS));
+        assertTrue(GameSaveManager.listSavesAsync().get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    @Test
+    void corruptIndexCountIsRebuilt() throws Exception {
+        GameSaveManager.saveGame(SaveCodecTest.sampleSave("indexed"));
+        ByteBuffer index = ByteBuffer.allocate(32);
+        index.putInt(0x54494458).put((byte) 1).putLong(0L);
+        SaveCodec.putVarint(index, 1 << 28);
+        Files.write(home.resolve(".tetris_saves").resolve(SaveCatalogue.INDEX_FILE_NAME),
+                Arrays.copyOf(index.array(), index.position()));
+
+        List<GameSaveMetadata> saves = GameSaveManager.listSaves();
+
+        assertEquals(1, saves.size());
+        assertEquals("indexed", saves.get(0).getFileSafeName());
+    }
+
+    @Test
+    void deletedSaveIsGone() throws Exception {
+        GameSaveManager.saveGame(SaveCodecTest.sampleSave("deleted"));
+
+        assertTrue(GameSaveManager.deleteSave("deleted"));
+        assertFalse(GameSaveManager.saveExists("deleted"));
+        assertEquals(0, GameSaveManager.countSaves());
+    }
+}
@@ -0,0 +1,208 @@
+package com.comp2042.save;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the binary save format of {@link SaveCodec}.
+ */
+class SaveCodecTest {
+
+    @Test
+    void roundTripKeepsEveryField() throws IOException {
+        GameSaveData data = sampleSave("round_trip");
+
+        GameSaveData decoded = SaveCodec.decode(SaveCodec.encode(data), "round_trip");
+
+        assertSameSave(data, decoded);
+    }
+
+    @Test
+    void roundTripKeepsEmptyBoardAndNegativeOffsets() throws IOException {
+        GameSaveData data = GameSaveData.builder()
+                .displayName("Empty")
+                .fileSafeName("empty")
+                .savedAt(1L)
+                .boardMatrix(new int[25][10])
+                .currentOffset(-1, -1)
+                .currentBrickType("OBrick")
+                .currentRotationIndex(0)
+                .queuedBrickTypes(List.of())
+                .level(1)
+                .build();
+
+        assertSameSave(data, SaveCodec.decode(SaveCodec.encode(data), "empty"));
+    }
+
+    @Test
+    void decodeMetadataReadsOnlyTheHeader() throws IOException {
+        ByteBuffer encoded = SaveCodec.encode(sampleSave("header"));
+
+        GameSaveMetadata metadata = SaveCodec.decodeMetadata(encoded, "header");
+
+        assertEquals("Save header", metadata.getDisplayName());
+        assertEquals("header", metadata.getFileSafeName());
+        assertEquals(1_700_000_000_000L, metadata.getSavedAt());
+    }
+
+    @Test
+    void encodeRejectsCellsThatDoNotFitInThreeBits() {
+        int[][] board = new int[25][10];
+        board[24][0] = 8;
+        GameSaveData data = GameSaveData.builder()
+                .displayName("Wide colour")
+                .fileSafeName("wide_colour")
+                .boardMatrix(board)
+                .currentBrickType("TBrick")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> SaveCodec.encode(data));
+    }
+
+    @Test
+    void decodeRejectsZeroRows() {
+        IOException exception = assertThrows(IOException.class,
+                () -> SaveCodec.decode(boardHeader(0, 10, 0), "zero_rows"));
+        assertEquals("Corrupt save board header", exception.getMessage());
+    }
+
+    @Test
+    void decodeRejectsOversizedBoardWithoutAllocatingIt() {
+        IOException exception = assertThrows(IOException.class,
+                () -> SaveCodec.decode(boardHeader(Integer.MAX_VALUE, Integer.MAX_VALUE, 0), "huge"));
+        assertEquals("Corrupt save board header", exception.getMessage());
+    }
+
+    @Test
+    void decodeRejectsBoardLargerThanTheRemainingBytes() {
+        IOException exception = assertThrows(IOException.class,
+                () -> SaveCodec.decode(boardHeader(256, 64, 0), "short"));
+        assertEquals("Corrupt save board header", exception.getMessage());
+    }
+
+    @Test
+    void decodeRejectsRotationOutsideTheBrick() {
+        ByteBuffer encoded = SaveCodec.encode(withBrick("TBrick", 4, 4, 3));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(encoded, "bad_rotation"));
+    }
+
+    @Test
+    void decodeRejectsNegativeRotation() {
+        ByteBuffer encoded = SaveCodec.encode(withBrick("TBrick", -1, 4, 3));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(encoded, "negative_rotation"));
+    }
+
+    @Test
+    void decodeRejectsBrickOutsideTheBoard() {
+        ByteBuffer encoded = SaveCodec.encode(withBrick("TBrick", 0, 9, 3));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(encoded, "outside"));
+    }
+
+    @Test
+    void decodeRejectsBrickOverlappingTheStack() {
+        ByteBuffer encoded = SaveCodec.encode(withBrick("TBrick", 0, 4, 20));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(encoded, "overlapping"));
+    }
+
+    @Test
+    void decodeRejectsTruncatedSave() {
+        ByteBuffer encoded = SaveCodec.encode(sampleSave("truncated"));
+        ByteBuffer truncated = encoded.limit(encoded.limit() - 3);
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(truncated, "truncated"));
+    }
+
+    @Test
+    void decodeRejectsOtherFiles() {
+        ByteBuffer text = ByteBuffer.wrap("not a save file".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> SaveCodec.decode(text, "text"));
+    }
+
+    /**
+     * Builds a save header followed by the given board dimensions and nothing else.
+     */
+    private static ByteBuffer boardHeader(int rows, int columns, int emptyTopRows) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.putInt(SaveCodec.MAGIC);
+        buffer.put(SaveCodec.VERSION);
+        buffer.putLong(0L);
+        SaveCodec.putString(buffer, "Corrupt".getBytes(StandardCharsets.UTF_8));
+        SaveCodec.putVarint(buffer, rows);
+        SaveCodec.putVarint(buffer, columns);
+        SaveCodec.putVarint(buffer, emptyTopRows);
+        return buffer.flip();
+    }
+
+    /**
+     * Copies the sample save with a different falling brick.
+     */
+    private static GameSaveData withBrick(String type, int rotation, int x, int y) {
+        GameSaveData sample = sampleSave("brick");
+        return GameSaveData.builder()
+                .displayName(sample.getDisplayName())
+                .fileSafeName(sample.getFileSafeName())
+                .boardMatrix(sample.getBoardMatrix())
+                .currentOffset(x, y)
+                .currentBrickType(type)
+                .currentRotationIndex(rotation)
+                .queuedBrickTypes(sample.getQueuedBrickTypes())
+                .build();
+    }
+
+    static GameSaveData sampleSave(String fileSafeName) {
+        int[][] board = new int[25][10];
+        for (int row = 20; row < board.length; row++) {
+            for (int column = 0; column < board[row].length; column++) {
+                board[row][column] = (row + column) % 8;
+            }
+        }
+        return GameSaveData.builder()
+                .displayName("Save " + fileSafeName)
+                .fileSafeName(fileSafeName)
+                .savedAt(1_700_000_000_000L)
+                .boardMatrix(board)
+                .currentOffset(4, 3)
+                .currentBrickType("TBrick")
+                .currentRotationIndex(1)
+                .queuedBrickTypes(List.of("IBrick", "OBrick", "ZBrick"))
+                .scoreValue(1234)
+                .linesCleared(17)
+                .level(2)
+                .highScoreValue(5678)
+                .build();
+    }
+
+    static void assertSameSave(GameSaveData expected, GameSaveData actual) {
+        assertEquals(expected.getDisplayName(), actual.getDisplayName());
+        assertEquals(expected.getFileSafeName(), actual.getFileSafeName());
+        assertEquals(expected.getSavedAt(), actual.getSavedAt());
+        int[][] expectedBoard = expected.getBoardMatrix();
+        int[][] actualBoard = actual.getBoardMatrix();
+        assertEquals(expectedBoard.length, actualBoard.length);
+        for (int row = 0; row < expectedBoard.length; row++) {
+            assertArrayEquals(expectedBoard[row], actualBoard[row], "row " + row);
+        }
+        assertEquals(expected.getCurrentOffsetX(), actual.getCurrentOffsetX());
+        assertEquals(expected.getCurrentOffsetY(), actual.getCurrentOffsetY());
+        assertEquals(expected.getCurrentBrickType(), actual.getCurrentBrickType());
+        assertEquals(expected.getCurrentRotationIndex(), actual.getCurrentRotationIndex());
+        assertEquals(expected.getQueuedBrickTypes(), actual.getQueuedBrickTypes());
+        assertEquals(expected.getScoreValue(), actual.getScoreValue());
+        assertEquals(expected.getLinesCleared(), actual.getLinesCleared());
+        assertEquals(expected.getLevel(), actual.getLevel());
+        assertEquals(expected.getHighScoreValue(), actual.getHighScoreValue());
+    }
+}